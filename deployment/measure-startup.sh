@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# Measures time to first successful request and resident memory (RSS) for one startup variant.
+#
+# usage: deployment/measure-startup.sh <label> <command...>
+#   deployment/measure-startup.sh jvm java -jar target/fantaco-customer-main-1.0.0.jar
+#   deployment/measure-startup.sh native target/fantaco-customer-main
+#
+# The command is started RUNS times (default 5). Each run is timed from launch until URL answers 200,
+# then RSS of the started process is read from /proc and the process is stopped. Prints CSV:
+# variant,run,first_request_ms,rss_mb
+
+set -euo pipefail
+
+URL=${URL:-http://localhost:8081/api/customers/ALFKI}
+RUNS=${RUNS:-5}
+LOG=${LOG:-/tmp/measure-startup.log}
+
+label=$1
+shift
+
+echo "variant,run,first_request_ms,rss_mb"
+for run in $(seq 1 "$RUNS"); do
+    start=$(date +%s%N)
+    "$@" > "$LOG" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$label: process exited before answering, see $LOG" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+    rss_kb=$(awk '/^VmRSS/ {print $2}' "/proc/$pid/status")
+    echo "$label,$run,$(( (end - start) / 1000000 )),$(( rss_kb / 1024 ))"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+done
@@ -0,0 +1,23 @@
+package com.customer.reactive;
+
+import com.customer.config.CustomerSearchProperties;
+import com.customer.exception.GlobalExceptionHandler;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@code /api/customers} contract on WebFlux and R2DBC. Error responses
+ * come from the servlet application's {@link GlobalExceptionHandler}, which
+ * works unchanged for annotated WebFlux controllers.
+ */
+@SpringBootApplication
+@Import(GlobalExceptionHandler.class)
+@EnableConfigurationProperties(CustomerSearchProperties.class)
+public class ReactiveCustomerApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveCustomerApplication.class, args);
+    }
+}
@@ -0,0 +1,101 @@
+package com.customer.reactive.controller;
+
+import com.customer.dto.CustomerRequest;
+import com.customer.dto.CustomerResponse;
+import com.customer.dto.CustomerSearchCriteria;
+import com.customer.dto.CustomerUpdateRequest;
+import com.customer.dto.CustomerVersion;
+import com.customer.exception.PreconditionFailedException;
+import com.customer.reactive.service.ReactiveCustomerService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Create, read, search, update and delete with the same paths, headers and
+ * bodies as the servlet application's {@code CustomerController}. Search
+ * pages are streamed: each customer is written as it arrives from the
+ * database instead of after the whole page has been read.
+ */
+@RestController
+@RequestMapping("/api/customers")
+public class ReactiveCustomerController {
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final ReactiveCustomerService customerService;
+
+    public ReactiveCustomerController(ReactiveCustomerService customerService) {
+        this.customerService = customerService;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<CustomerResponse>> createCustomer(@Valid @RequestBody CustomerRequest request,
+                                                                 ServerHttpRequest httpRequest) {
+        return customerService.createCustomer(request).map(response -> {
+            URI location = UriComponentsBuilder.fromUri(httpRequest.getURI())
+                    .path("/{id}")
+                    .buildAndExpand(response.customerId())
+                    .toUri();
+            return ResponseEntity.created(location).eTag(etagOf(response)).body(response);
+        });
+    }
+
+    /** If-None-Match is answered with 304 by WebFlux from the ETag set here. */
+    @GetMapping("/{customerId}")
+    public Mono<ResponseEntity<CustomerResponse>> getCustomerById(@PathVariable String customerId) {
+        return customerService.getCustomerById(customerId)
+                .map(response -> ResponseEntity.ok().eTag(etagOf(response)).body(response));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<CustomerResponse>>> searchCustomers(
+            CustomerSearchCriteria criteria,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
+        return customerService.searchCustomers(criteria, sort, size, cursor).map(page -> {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+            if (page.nextCursor() != null) {
+                builder.header(NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return builder.body(page.customers());
+        });
+    }
+
+    @PutMapping("/{customerId}")
+    public Mono<ResponseEntity<CustomerResponse>> updateCustomer(
+            @PathVariable String customerId,
+            @Valid @RequestBody CustomerUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return customerService.updateCustomer(customerId, request, expectedVersion(ifMatch))
+                .map(response -> ResponseEntity.ok().eTag(etagOf(response)).body(response));
+    }
+
+    @DeleteMapping("/{customerId}")
+    public Mono<ResponseEntity<Void>> deleteCustomer(
+            @PathVariable String customerId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return customerService.deleteCustomer(customerId, expectedVersion(ifMatch))
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    private static String etagOf(CustomerResponse customer) {
+        return CustomerVersion.of(customer).etag();
+    }
+
+    private static CustomerVersion expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        return CustomerVersion.parseETag(ifMatch).orElseThrow(() -> new PreconditionFailedException(
+                "If-Match " + ifMatch + " does not match the current ETag"));
+    }
+}
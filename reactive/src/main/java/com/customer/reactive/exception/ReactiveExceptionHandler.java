@@ -0,0 +1,82 @@
+package com.customer.reactive.exception;
+
+import com.customer.dto.ErrorResponse;
+import com.customer.exception.GlobalExceptionHandler;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The WebFlux exceptions that have a servlet counterpart in
+ * {@link GlobalExceptionHandler}, mapped to the same {@link ErrorResponse}s.
+ * Ordered first so they are not caught by its catch-all handler.
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReactiveExceptionHandler {
+
+    /** {@code @Valid @RequestBody} failures; {@code MethodArgumentNotValidException} on the servlet stack. */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationErrors(WebExchangeBindException ex) {
+        List<ErrorResponse.ValidationError> validationErrors = new ArrayList<>();
+
+        for (FieldError error : ex.getBindingResult().getFieldErrors()) {
+            String rejectedValue = error.getRejectedValue() != null ? error.getRejectedValue().toString() : "null";
+            validationErrors.add(new ErrorResponse.ValidationError(
+                    error.getField(),
+                    rejectedValue,
+                    error.getDefaultMessage()
+            ));
+        }
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Validation failed",
+                validationErrors
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /** Unconvertible parameters and unreadable bodies. */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleBadInput(ServerWebInputException ex) {
+        if (ex.getCause() instanceof TypeMismatchException mismatch && ex.getMethodParameter() != null) {
+            return errorResponse(ex.getStatusCode(), "Invalid value '" + mismatch.getValue()
+                    + "' for parameter '" + ex.getMethodParameter().getParameterName() + "'");
+        }
+        return errorResponse(ex.getStatusCode(), ex.getReason());
+    }
+
+    /** Unknown routes, unsupported methods and media types keep their status instead of becoming 500. */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatus(ResponseStatusException ex) {
+        return errorResponse(ex.getStatusCode(), ex.getReason());
+    }
+
+    private static ResponseEntity<ErrorResponse> errorResponse(HttpStatusCode status, String message) {
+        HttpStatus httpStatus = HttpStatus.resolve(status.value());
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                httpStatus != null ? httpStatus.getReasonPhrase() : String.valueOf(status.value()),
+                message,
+                null
+        );
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+}
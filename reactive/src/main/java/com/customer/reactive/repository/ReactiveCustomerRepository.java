@@ -0,0 +1,312 @@
+package com.customer.reactive.repository;
+
+import com.customer.dto.CustomerRequest;
+import com.customer.dto.CustomerResponse;
+import com.customer.dto.CustomerSearchCriteria;
+import com.customer.dto.CustomerUpdateRequest;
+import com.customer.dto.CustomerVersion;
+import io.r2dbc.spi.Parameter;
+import io.r2dbc.spi.Parameters;
+import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * R2DBC counterpart of the servlet application's {@code CustomerRepository},
+ * over the same tables. Each method is a single statement that returns the
+ * affected row, so none of them needs a transaction of its own.
+ */
+@Repository
+public class ReactiveCustomerRepository {
+
+    private static final String COLUMNS = """
+            customer_id, company_name, contact_name, contact_title, address, city, region, postal_code, country,
+            phone, fax, contact_email, created_at, updated_at, version""";
+
+    private static final String INSERT = """
+            INSERT INTO customer (customer_id, company_name, contact_name, contact_title, address, city, region,
+                                  postal_code, country, phone, phone_digits, fax, contact_email, created_at,
+                                  updated_at, version)
+            VALUES (:customerId, :companyName, :contactName, :contactTitle, :address, :city, :region, :postalCode,
+                    :country, :phone, :phoneDigits, :fax, :contactEmail, :now, :now, 0)
+            RETURNING\s""" + COLUMNS;
+
+    private static final String UPDATE = """
+            UPDATE customer SET company_name = :companyName, contact_name = :contactName,
+                   contact_title = :contactTitle, address = :address, city = :city, region = :region,
+                   postal_code = :postalCode, country = :country, phone = :phone, phone_digits = :phoneDigits,
+                   fax = :fax, contact_email = :contactEmail, updated_at = :now, version = version + 1
+            WHERE customer_id = :customerId""";
+
+    // The creation time tells a re-created customer from the deleted one whose version it repeats
+    private static final String VERSION_MATCHES = " AND version = :version AND created_at = :createdAt";
+
+    private static final String TOMBSTONE = """
+            INSERT INTO customer_tombstone (customer_id, deleted_at) VALUES (:customerId, :deletedAt)
+            ON CONFLICT (customer_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at""";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveCustomerRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<CustomerResponse> findById(String customerId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM customer WHERE customer_id = :customerId")
+                .bind("customerId", customerId)
+                .map(ReactiveCustomerRepository::toResponse)
+                .one();
+    }
+
+    public Mono<Boolean> existsById(String customerId) {
+        return databaseClient.sql("SELECT 1 FROM customer WHERE customer_id = :customerId")
+                .bind("customerId", customerId)
+                .map(row -> Boolean.TRUE)
+                .one()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * A single INSERT; fails with a {@code DataIntegrityViolationException} if
+     * the ID exists.
+     */
+    public Mono<CustomerResponse> insert(CustomerRequest customer) {
+        GenericExecuteSpec spec = databaseClient.sql(INSERT)
+                .bind("customerId", customer.customerId())
+                .bind("now", LocalDateTime.now());
+        return bindValues(spec, customer.companyName(), customer.contactName(), customer.contactTitle(),
+                customer.address(), customer.city(), customer.region(), customer.postalCode(), customer.country(),
+                customer.phone(), customer.fax(), customer.contactEmail())
+                .map(ReactiveCustomerRepository::toResponse)
+                .one();
+    }
+
+    /**
+     * Overwrites the customer in one {@code UPDATE ... RETURNING}, only while
+     * the stored version is {@code expected} when that is non-null.
+     *
+     * @return the updated customer, or empty if no row matched
+     */
+    public Mono<CustomerResponse> update(String customerId, CustomerUpdateRequest values, CustomerVersion expected) {
+        String sql = UPDATE + (expected != null ? VERSION_MATCHES : "") + " RETURNING " + COLUMNS;
+        GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("customerId", customerId)
+                .bind("now", LocalDateTime.now());
+        if (expected != null) {
+            spec = bindVersion(spec, expected);
+        }
+        return bindValues(spec, values.companyName(), values.contactName(), values.contactTitle(), values.address(),
+                values.city(), values.region(), values.postalCode(), values.country(), values.phone(), values.fax(),
+                values.contactEmail())
+                .map(ReactiveCustomerRepository::toResponse)
+                .one();
+    }
+
+    /**
+     * @return the number of rows deleted, 0 if no customer has that ID (and version, when given)
+     */
+    public Mono<Long> delete(String customerId, CustomerVersion expected) {
+        GenericExecuteSpec spec = databaseClient.sql("DELETE FROM customer WHERE customer_id = :customerId"
+                        + (expected != null ? VERSION_MATCHES : ""))
+                .bind("customerId", customerId);
+        if (expected != null) {
+            spec = bindVersion(spec, expected);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private static GenericExecuteSpec bindVersion(GenericExecuteSpec spec, CustomerVersion expected) {
+        return spec.bind("version", expected.version()).bind("createdAt", expected.createdAt());
+    }
+
+    /** Records the delete for the change feed, as the servlet application does. */
+    public Mono<Void> insertTombstone(String customerId, LocalDateTime deletedAt) {
+        return databaseClient.sql(TOMBSTONE)
+                .bind("customerId", customerId)
+                .bind("deletedAt", deletedAt)
+                .then();
+    }
+
+    /**
+     * Reads the sort key and customer ID of the {@code position}th matching
+     * row (0-based) and of the row after it, in sort order. Only the key
+     * columns are selected.
+     */
+    public Flux<SortPosition> findPositions(CustomerSearchCriteria criteria, String sortAttribute, boolean descending,
+                                            SortPosition after, int position) {
+        SearchSql search = new SearchSql(criteria, sortAttribute, descending, after, null);
+        return search.bindTo(databaseClient, "SELECT " + search.key + " AS sort_key, customer_id FROM customer"
+                        + search.where + search.orderBy + " LIMIT 2 OFFSET " + position)
+                .map(row -> new SortPosition(row.get("sort_key", String.class), row.get("customer_id", String.class)))
+                .all();
+    }
+
+    /**
+     * Streams the customers matching {@code criteria} after {@code after} up
+     * to and including {@code last} (to the end when {@code null}), in sort
+     * order. Rows are emitted as the driver receives them, subject to the
+     * subscriber's demand.
+     */
+    public Flux<CustomerResponse> streamBetween(CustomerSearchCriteria criteria, String sortAttribute,
+                                                boolean descending, SortPosition after, SortPosition last) {
+        SearchSql search = new SearchSql(criteria, sortAttribute, descending, after, last);
+        return search.bindTo(databaseClient, "SELECT " + COLUMNS + " FROM customer" + search.where + search.orderBy)
+                .map(ReactiveCustomerRepository::toResponse)
+                .all();
+    }
+
+    private static GenericExecuteSpec bindValues(GenericExecuteSpec spec, String companyName, String contactName,
+                                                 String contactTitle, String address, String city, String region,
+                                                 String postalCode, String country, String phone, String fax,
+                                                 String contactEmail) {
+        return spec.bind("companyName", companyName)
+                .bind("contactName", nullable(contactName))
+                .bind("contactTitle", nullable(contactTitle))
+                .bind("address", nullable(address))
+                .bind("city", nullable(city))
+                .bind("region", nullable(region))
+                .bind("postalCode", nullable(postalCode))
+                .bind("country", nullable(country))
+                .bind("phone", nullable(phone))
+                .bind("phoneDigits", nullable(phone != null ? digitsOf(phone) : null))
+                .bind("fax", nullable(fax))
+                .bind("contactEmail", nullable(contactEmail));
+    }
+
+    private static Parameter nullable(String value) {
+        return Parameters.in(R2dbcType.VARCHAR, value);
+    }
+
+    private static CustomerResponse toResponse(Readable row) {
+        return new CustomerResponse(
+                row.get("customer_id", String.class),
+                row.get("company_name", String.class),
+                row.get("contact_name", String.class),
+                row.get("contact_title", String.class),
+                row.get("address", String.class),
+                row.get("city", String.class),
+                row.get("region", String.class),
+                row.get("postal_code", String.class),
+                row.get("country", String.class),
+                row.get("phone", String.class),
+                row.get("fax", String.class),
+                row.get("contact_email", String.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("version", Long.class)
+        );
+    }
+
+    /** Strips everything but ASCII digits, as {@code Customer.digitsOf} does. */
+    static String digitsOf(String value) {
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    /** Sort key and customer ID of one row; the key is {@code ""} for NULL. */
+    public record SortPosition(String sortKey, String customerId) {}
+
+    /**
+     * The WHERE clause and ORDER BY of a search, written to match the servlet
+     * application's Criteria query: substring filters on {@code upper(col)}
+     * (served by the pg_trgm indexes), digits-only phone matching, and NULL
+     * sort keys compared as empty strings.
+     */
+    private static final class SearchSql {
+
+        final String key;
+        final String where;
+        final String orderBy;
+        private final boolean byId;
+        private final Map<String, Object> params = new LinkedHashMap<>();
+
+        SearchSql(CustomerSearchCriteria criteria, String sortAttribute, boolean descending,
+                  SortPosition after, SortPosition last) {
+            String column = sortAttribute.replaceAll("([A-Z])", "_$1").toLowerCase(Locale.ROOT);
+            this.byId = "customer_id".equals(column);
+            this.key = byId ? column : "coalesce(" + column + ", '')";
+
+            List<String> predicates = new ArrayList<>();
+            contains(predicates, "company_name", criteria.companyName());
+            contains(predicates, "contact_name", criteria.contactName());
+            contains(predicates, "contact_title", criteria.contactTitle());
+            contains(predicates, "address", criteria.address());
+            contains(predicates, "city", criteria.city());
+            contains(predicates, "region", criteria.region());
+            contains(predicates, "postal_code", criteria.postalCode());
+            contains(predicates, "country", criteria.country());
+            contains(predicates, "fax", criteria.fax());
+            contains(predicates, "contact_email", criteria.contactEmail());
+            if (isPresent(criteria.phone())) {
+                String digits = digitsOf(criteria.phone());
+                // A phone filter without any digits cannot match a digits-only column
+                predicates.add(digits.isEmpty() ? "false" : "phone_digits LIKE " + param(likeContains(digits)));
+            }
+            if (after != null) {
+                predicates.add(compare(after, descending ? "<" : ">"));
+            }
+            if (last != null) {
+                predicates.add(compare(last, descending ? ">=" : "<="));
+            }
+            this.where = predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+
+            String direction = descending ? " DESC" : " ASC";
+            this.orderBy = " ORDER BY " + key + direction + (byId ? "" : ", customer_id" + direction);
+        }
+
+        GenericExecuteSpec bindTo(DatabaseClient databaseClient, String sql) {
+            GenericExecuteSpec spec = databaseClient.sql(sql);
+            for (Map.Entry<String, Object> param : params.entrySet()) {
+                spec = spec.bind(param.getKey(), param.getValue());
+            }
+            return spec;
+        }
+
+        private String compare(SortPosition position, String operator) {
+            if (byId) {
+                return "customer_id " + operator + " " + param(position.customerId());
+            }
+            return "(" + key + ", customer_id) " + operator + " (" + param(position.sortKey()) + ", "
+                    + param(position.customerId()) + ")";
+        }
+
+        private void contains(List<String> predicates, String column, String value) {
+            if (isPresent(value)) {
+                predicates.add("upper(" + column + ") LIKE "
+                        + param(likeContains(value.trim().toUpperCase(Locale.ROOT))) + " ESCAPE '\\'");
+            }
+        }
+
+        private String param(Object value) {
+            String name = "p" + params.size();
+            params.put(name, value);
+            return ":" + name;
+        }
+
+        private static String likeContains(String value) {
+            String escaped = value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+            return "%" + escaped + "%";
+        }
+
+        private static boolean isPresent(String value) {
+            return value != null && !value.isBlank();
+        }
+    }
+}
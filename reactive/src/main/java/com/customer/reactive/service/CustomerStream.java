@@ -0,0 +1,14 @@
+package com.customer.reactive.service;
+
+import com.customer.dto.CustomerResponse;
+import reactor.core.publisher.Flux;
+
+/**
+ * One keyset page of search results as a stream. {@code nextCursor} is known
+ * before the first row is read, so it can go out in a response header ahead
+ * of the body; it is {@code null} on the last page.
+ */
+public record CustomerStream(
+    Flux<CustomerResponse> customers,
+    String nextCursor
+) {}
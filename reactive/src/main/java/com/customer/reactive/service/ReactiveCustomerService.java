@@ -0,0 +1,130 @@
+package com.customer.reactive.service;
+
+import com.customer.config.CustomerSearchProperties;
+import com.customer.dto.CustomerRequest;
+import com.customer.dto.CustomerResponse;
+import com.customer.dto.CustomerSearchCriteria;
+import com.customer.dto.CustomerUpdateRequest;
+import com.customer.dto.CustomerVersion;
+import com.customer.exception.CustomerNotFoundException;
+import com.customer.exception.DuplicateCustomerIdException;
+import com.customer.exception.PreconditionFailedException;
+import com.customer.reactive.repository.ReactiveCustomerRepository;
+import com.customer.reactive.repository.ReactiveCustomerRepository.SortPosition;
+import com.customer.search.SearchCursor;
+import com.customer.search.SearchSort;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * The servlet application's {@code CustomerService} operations without
+ * blocking: every method returns at once and the work runs when the result is
+ * subscribed to. Only delete, which also writes a tombstone, opens a
+ * transaction; the rest are single statements. The customer table's trigger
+ * tells the servlet application's instances about every write.
+ */
+@Service
+public class ReactiveCustomerService {
+
+    private final ReactiveCustomerRepository customerRepository;
+    private final CustomerSearchProperties searchProperties;
+
+    public ReactiveCustomerService(ReactiveCustomerRepository customerRepository,
+                                   CustomerSearchProperties searchProperties) {
+        this.customerRepository = customerRepository;
+        this.searchProperties = searchProperties;
+    }
+
+    public Mono<CustomerResponse> createCustomer(CustomerRequest request) {
+        // A single INSERT; the primary key rejects duplicate IDs, so no existence check is needed
+        return customerRepository.insert(request)
+                .onErrorMap(DataIntegrityViolationException.class, e -> new DuplicateCustomerIdException(
+                        "Customer with ID " + request.customerId() + " already exists"));
+    }
+
+    public Mono<CustomerResponse> getCustomerById(String customerId) {
+        return customerRepository.findById(customerId)
+                .switchIfEmpty(Mono.error(() -> notFound(customerId)));
+    }
+
+    /**
+     * Finds the page's last row and whether another row follows it, reading
+     * only the key columns, then streams the page up to that row. The cursor
+     * is therefore known before the first customer is sent. Bounding the page
+     * by the last row's key rather than a LIMIT means a row inserted between
+     * the two queries cannot push a row of this page past the cursor.
+     */
+    public Mono<CustomerStream> searchCustomers(CustomerSearchCriteria criteria, String sort, Integer size,
+                                                String cursor) {
+        SearchSort searchSort = SearchSort.parse(sort);
+        int pageSize = resolvePageSize(size);
+        SearchCursor decoded = SearchCursor.decode(cursor, searchSort.toString());
+        SortPosition after = decoded != null ? new SortPosition(decoded.value(), decoded.customerId()) : null;
+
+        return customerRepository.findPositions(criteria, searchSort.attribute(), searchSort.descending(), after,
+                        pageSize - 1)
+                .collectList()
+                .map(positions -> {
+                    SortPosition last = positions.isEmpty() ? null : positions.get(0);
+                    String nextCursor = positions.size() > 1
+                            ? new SearchCursor(searchSort.toString(), last.sortKey(), last.customerId()).encode()
+                            : null;
+                    return new CustomerStream(customerRepository.streamBetween(criteria, searchSort.attribute(),
+                            searchSort.descending(), after, last), nextCursor);
+                });
+    }
+
+    /**
+     * Overwrites the customer. When {@code expected} is given the update
+     * only applies if the stored version still matches, otherwise
+     * {@link PreconditionFailedException} is signalled.
+     */
+    public Mono<CustomerResponse> updateCustomer(String customerId, CustomerUpdateRequest request,
+                                                 CustomerVersion expected) {
+        return customerRepository.update(customerId, request, expected)
+                .switchIfEmpty(Mono.defer(() -> writeRejected(customerId, expected)));
+    }
+
+    /**
+     * Deletes the customer; with a non-null {@code expected} only while
+     * the stored version still matches. The tombstone for the change feed is
+     * written in the same transaction.
+     */
+    @Transactional
+    public Mono<Void> deleteCustomer(String customerId, CustomerVersion expected) {
+        return customerRepository.delete(customerId, expected)
+                .flatMap(deleted -> deleted == 0
+                        ? writeRejected(customerId, expected)
+                        : customerRepository.insertTombstone(customerId, LocalDateTime.now()));
+    }
+
+    /**
+     * Explains why a conditional write matched no row. Only then is it worth a
+     * second query to tell a missing customer from a stale version.
+     */
+    private <T> Mono<T> writeRejected(String customerId, CustomerVersion expected) {
+        if (expected == null) {
+            return Mono.error(notFound(customerId));
+        }
+        return customerRepository.existsById(customerId)
+                .flatMap(exists -> Mono.error(exists
+                        ? new PreconditionFailedException("Customer with ID " + customerId
+                                + " has been modified since version " + expected.etag())
+                        : notFound(customerId)));
+    }
+
+    private static CustomerNotFoundException notFound(String customerId) {
+        return new CustomerNotFoundException("Customer with ID " + customerId + " not found");
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return searchProperties.defaultPageSize();
+        }
+        return Math.max(1, Math.min(size, searchProperties.maxPageSize()));
+    }
+}
@@ -0,0 +1,88 @@
+package com.customer.fixtures;
+
+import com.customer.dto.CustomerRequest;
+import com.customer.dto.CustomerResponse;
+import com.customer.model.Customer;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Deterministic customer data shaped like the rows in {@code data.sql}, for
+ * benchmarks and load tests that need more than a handful of customers.
+ * Lives in {@code src/fixtures/java}, which the jmh and loadtest profiles
+ * both add as a test source root.
+ */
+public final class SyntheticCustomers {
+
+    private static final String[] CITIES = {"Berlin", "México D.F.", "London", "Luleå", "Strasbourg", "Madrid"};
+    private static final String[] COUNTRIES = {"Germany", "Mexico", "UK", "Sweden", "France", "Spain"};
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private SyntheticCustomers() {
+    }
+
+    /** A unique five-character customer ID for {@code index} (up to 36^4 customers). */
+    public static String customerId(int index) {
+        String suffix = Integer.toString(index, 36).toUpperCase(Locale.ROOT);
+        return "Z" + "0".repeat(4 - suffix.length()) + suffix;
+    }
+
+    public static CustomerRequest request(int index) {
+        return request(customerId(index), index);
+    }
+
+    /** The customer for {@code index}, stored under an ID of the caller's choosing. */
+    public static CustomerRequest request(String customerId, int index) {
+        int place = index % CITIES.length;
+        return new CustomerRequest(
+                customerId,
+                "Synthetic Trading Company " + index,
+                "Contact Person " + index,
+                "Sales Representative",
+                index + " Market Street",
+                CITIES[place],
+                null,
+                String.format("%05d", index % 100000),
+                COUNTRIES[place],
+                "(171) 555-" + String.format("%04d", index % 10000),
+                "(171) 555-0000",
+                "contact" + index + "@example.com");
+    }
+
+    public static Customer entity(int index) {
+        CustomerRequest request = request(index);
+        Customer customer = new Customer(request.customerId(), request.companyName());
+        customer.setContactName(request.contactName());
+        customer.setContactTitle(request.contactTitle());
+        customer.setAddress(request.address());
+        customer.setCity(request.city());
+        customer.setRegion(request.region());
+        customer.setPostalCode(request.postalCode());
+        customer.setCountry(request.country());
+        customer.setPhone(request.phone());
+        customer.setFax(request.fax());
+        customer.setContactEmail(request.contactEmail());
+        return customer;
+    }
+
+    public static CustomerResponse response(int index) {
+        CustomerRequest request = request(index);
+        return new CustomerResponse(
+                request.customerId(),
+                request.companyName(),
+                request.contactName(),
+                request.contactTitle(),
+                request.address(),
+                request.city(),
+                request.region(),
+                request.postalCode(),
+                request.country(),
+                request.phone(),
+                request.fax(),
+                request.contactEmail(),
+                CREATED_AT,
+                CREATED_AT,
+                0);
+    }
+}
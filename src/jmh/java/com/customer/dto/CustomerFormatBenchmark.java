@@ -0,0 +1,90 @@
+package com.customer.dto;
+
+import com.customer.fixtures.SyntheticCustomers;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding and decoding a page of 100 {@link CustomerResponse}s in each
+ * negotiable format, and the cost of gzipping the encoded page. Payload sizes
+ * (plain and gzipped) are printed once per format at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerFormatBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<CustomerResponse> customers;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+        JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, CustomerResponse.class);
+        writer = objectMapper.writerFor(listType);
+        reader = objectMapper.readerFor(listType);
+        customers = IntStream.range(0, 100).mapToObj(SyntheticCustomers::response).toList();
+        encoded = writer.writeValueAsBytes(customers);
+
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(encoded);
+        }
+        System.out.printf("%n%s: %d bytes, %d bytes gzipped%n", format, encoded.length, gzipped.size());
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(customers);
+    }
+
+    @Benchmark
+    public List<CustomerResponse> decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    @Benchmark
+    public void encodeGzipped() throws IOException {
+        try (OutputStream gzip = new GZIPOutputStream(OutputStream.nullOutputStream())) {
+            writer.writeValue(gzip, customers);
+        }
+    }
+}
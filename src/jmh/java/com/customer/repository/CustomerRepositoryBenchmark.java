@@ -0,0 +1,125 @@
+package com.customer.repository;
+
+import com.customer.CustomerApplication;
+import com.customer.fixtures.SyntheticCustomers;
+import com.customer.dto.CustomerPage;
+import com.customer.dto.CustomerSearchCriteria;
+import com.customer.dto.CustomerResponse;
+import com.customer.dto.CustomerUpdateRequest;
+import com.customer.model.Customer;
+import com.customer.service.CustomerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Database round trips through the repository and service layers, against
+ * PostgreSQL: a throwaway Testcontainers instance by default, or the scratch
+ * database given by {@code -Dbenchmark.jdbc.url} (its customer table is
+ * dropped and recreated). The customer cache is bypassed so every call
+ * reaches the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerRepositoryBenchmark {
+
+    @Param({"10000"})
+    public int customers;
+
+    private PostgreSQLContainer<?> database;
+    private ConfigurableApplicationContext context;
+    private CustomerRepository customerRepository;
+    private CustomerService customerService;
+    private CustomerSearchCriteria companyNameCriteria;
+    private CustomerUpdateRequest updateRequest;
+
+    @Setup
+    public void setUp() {
+        // Passed as command-line arguments so they take precedence over application.properties
+        Map<String, String> properties = new HashMap<>();
+        String jdbcUrl = System.getProperty("benchmark.jdbc.url", "");
+        if (jdbcUrl.isBlank()) {
+            database = new PostgreSQLContainer<>("postgres:15");
+            database.start();
+            properties.put("spring.datasource.url", database.getJdbcUrl());
+            properties.put("spring.datasource.username", database.getUsername());
+            properties.put("spring.datasource.password", database.getPassword());
+        } else {
+            properties.put("spring.datasource.url", jdbcUrl);
+        }
+        properties.put("server.port", "0");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.customer", "WARN");
+        properties.put("logging.level.org.hibernate", "ERROR");
+        properties.put("spring.cache.type", "none");
+        properties.put("customer.cache.sync.enabled", "false");
+
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        context = new SpringApplicationBuilder(CustomerApplication.class).run(args);
+        customerRepository = context.getBean(CustomerRepository.class);
+        customerService = context.getBean(CustomerService.class);
+
+        List<Customer> synthetic = IntStream.range(0, customers).mapToObj(SyntheticCustomers::entity).toList();
+        context.getBean(CustomerBatchRepository.class).insert(new ArrayList<>(synthetic), false, 500);
+
+        companyNameCriteria = new CustomerSearchCriteria("trading company 12", null, null, null, null, null,
+                null, null, null, null, null);
+        updateRequest = new CustomerUpdateRequest("Synthetic Trading Company", "Contact Person", "Owner",
+                "1 Market Street", "London", null, "WA1 1DP", "UK", "(171) 555-7788", null, "contact@example.com");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        if (database != null) {
+            database.stop();
+        }
+    }
+
+    private String randomCustomerId() {
+        return SyntheticCustomers.customerId(ThreadLocalRandom.current().nextInt(customers));
+    }
+
+    @Benchmark
+    public Optional<Customer> findById() {
+        return customerRepository.findById(randomCustomerId());
+    }
+
+    @Benchmark
+    public CustomerPage searchByCompanyName() {
+        return customerService.searchCustomers(companyNameCriteria, null, 20, null);
+    }
+
+    @Benchmark
+    public CustomerResponse updateCustomer() {
+        return customerService.updateCustomer(randomCustomerId(), updateRequest, null);
+    }
+}
@@ -0,0 +1,50 @@
+package com.customer.service;
+
+import com.customer.fixtures.SyntheticCustomers;
+import com.customer.dto.CustomerRequest;
+import com.customer.dto.CustomerResponse;
+import com.customer.model.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO mapping done for every customer returned or written by
+ * {@link CustomerService}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerMappingBenchmark {
+
+    private Customer customer;
+    private CustomerRequest request;
+
+    @Setup
+    public void setUp() {
+        customer = SyntheticCustomers.entity(42);
+        request = SyntheticCustomers.request(42);
+    }
+
+    @Benchmark
+    public CustomerResponse toResponse() {
+        return CustomerService.toResponse(customer);
+    }
+
+    @Benchmark
+    public Customer toEntity() {
+        return CustomerService.toEntity(request);
+    }
+}
@@ -0,0 +1,89 @@
+package com.customer.web;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.customer.fixtures.SyntheticCustomers;
+import com.customer.dto.CustomerResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request logging cost: the previous controller style, which rendered
+ * whole DTOs at INFO, against the single access line written by
+ * {@link AccessLogFilter} and a disabled payload statement. Events are
+ * formatted and encoded but written to a null stream, so the numbers cover
+ * message building and layout without I/O; run with {@code -prof gc} to see
+ * the allocation difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessLogBenchmark {
+
+    private static final Logger controllerLog = LoggerFactory.getLogger("com.customer.controller.CustomerController");
+    private static final Logger payloadLog = LoggerFactory.getLogger("com.customer.access.payload");
+
+    private String customerId;
+    private CustomerResponse response;
+    private long started;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%X{requestId:-}] --- [%t] %logger{39} : %m%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+
+        customerId = SyntheticCustomers.customerId(42);
+        response = SyntheticCustomers.response(42);
+        started = System.nanoTime();
+    }
+
+    @Benchmark
+    public void controllerDtoLogging() {
+        controllerLog.info("getCustomerById called with customerId: {}", customerId);
+        controllerLog.info("getCustomerById returning response: {}", response);
+    }
+
+    @Benchmark
+    public void accessLine() {
+        AccessLogFilter.logAccess("9e447c2e5679e4c0", "GET", "/api/customers/" + customerId, 200, started);
+    }
+
+    @Benchmark
+    public void disabledPayload() {
+        payloadLog.debug("{} response {}", customerId, response);
+    }
+}
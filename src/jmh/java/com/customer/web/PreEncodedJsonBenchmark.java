@@ -0,0 +1,77 @@
+package com.customer.web;
+
+import com.customer.fixtures.SyntheticCustomers;
+import com.customer.cache.CustomerJsonCache;
+import com.customer.config.CacheConfig;
+import com.customer.dto.CustomerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Writing an unchanged customer, and a search page of 20, with Jackson on
+ * every request versus copying bytes held by {@link CustomerJsonCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreEncodedJsonBenchmark {
+
+    private ObjectWriter customerWriter;
+    private ObjectWriter pageWriter;
+    private CustomerJsonCache jsonCache;
+    private CustomerResponse customer;
+    private List<CustomerResponse> page;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        customerWriter = objectMapper.writerFor(CustomerResponse.class);
+        pageWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, CustomerResponse.class));
+        jsonCache = new CustomerJsonCache(objectMapper, new CaffeineCacheManager(CacheConfig.CUSTOMER_JSON));
+        customer = SyntheticCustomers.response(42);
+        page = IntStream.range(0, 20).mapToObj(SyntheticCustomers::response).toList();
+    }
+
+    @Benchmark
+    public void serializeCustomer() throws IOException {
+        customerWriter.writeValue(OutputStream.nullOutputStream(), customer);
+    }
+
+    @Benchmark
+    public void preEncodedCustomer() throws IOException {
+        jsonCache.encode(customer).writeTo(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void serializePage() throws IOException {
+        pageWriter.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    /** Search results are fresh objects, so each fragment is found by an equality check. */
+    @Benchmark
+    public void preEncodedPage() throws IOException {
+        jsonCache.encodeAll(page).writeTo(OutputStream.nullOutputStream());
+    }
+}
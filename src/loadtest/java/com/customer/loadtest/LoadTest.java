@@ -0,0 +1,259 @@
+package com.customer.loadtest;
+
+import com.customer.dto.CustomerRequest;
+import com.customer.dto.CustomerUpdateRequest;
+import com.customer.fixtures.SyntheticCustomers;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator for the customer API.
+ * <p>
+ * Requests are started on a fixed schedule of {@code --rate} per second, each
+ * on its own virtual thread, regardless of how many earlier requests are still
+ * outstanding. Latency is measured from the scheduled start time rather than
+ * the actual send time, so a stalled server shows up as queueing delay instead
+ * of quietly lowering the offered load (no coordinated omission).
+ * <p>
+ * Before the run, {@code --customers} synthetic customers are seeded through
+ * {@code POST /api/customers/batch}. Reads and updates target those; creates
+ * use fresh IDs, and deletes remove customers created during the run.
+ * Per-operation HdrHistogram percentiles are printed and written to
+ * {@code --output} as {@code .hgrm} files plus a {@code summary.csv}.
+ */
+public final class LoadTest {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final String[] SEARCHES = {
+        "city=London", "country=Germany", "companyName=trading%20company%2012", "contactName=person%2099",
+        "phone=555-01", "country=Mexico&sort=companyName"
+    };
+
+    private final LoadTestOptions options;
+    private final String customersUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private final Map<Operation, ConcurrentHistogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger nextCreatedId = new AtomicInteger();
+    private final AtomicLong maxDispatchLagNanos = new AtomicLong();
+
+    private LoadTest(LoadTestOptions options, String baseUrl) {
+        this.options = options;
+        this.customersUrl = baseUrl + "/api/customers";
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (TargetApplication target = TargetApplication.start(options)) {
+            LoadTest loadTest = new LoadTest(options, target.baseUrl());
+            if (options.seed()) {
+                loadTest.seed();
+            }
+            loadTest.run();
+            loadTest.report();
+        }
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        for (int from = 0; from < options.customers(); from += SEED_BATCH_SIZE) {
+            List<CustomerRequest> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(from + SEED_BATCH_SIZE, options.customers()); i++) {
+                batch.add(SyntheticCustomers.request(seededId(i), i));
+            }
+            HttpResponse<String> response = client.send(json("POST", customersUrl + "/batch?onConflict=update", batch),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": "
+                        + response.body());
+            }
+        }
+        System.out.printf("Seeded %d customers in %d ms%n", options.customers(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void run() throws InterruptedException {
+        Operation[] schedule = weightedSchedule();
+        long warmupNanos = options.warmup().toNanos();
+        long totalNanos = warmupNanos + options.duration().toNanos();
+        System.out.printf("Running %d req/s for %s (after %s warmup) against %s%n", options.rate(),
+                options.duration(), options.warmup(), customersUrl);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (long i = 0; ; i++) {
+                long offset = i * 1_000_000_000L / options.rate();
+                if (offset >= totalNanos) {
+                    break;
+                }
+                long intendedStart = start + offset;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else {
+                    maxDispatchLagNanos.accumulateAndGet(-wait, Math::max);
+                }
+                Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                boolean measured = offset >= warmupNanos;
+                executor.execute(() -> execute(operation, intendedStart, measured));
+            }
+        }
+    }
+
+    private void execute(Operation operation, long intendedStart, boolean measured) {
+        boolean ok;
+        try {
+            HttpResponse<Void> response = client.send(request(operation), HttpResponse.BodyHandlers.discarding());
+            ok = response.statusCode() < 300;
+            if (ok && operation == Operation.CREATE) {
+                createdIds.add(idFromLocation(response));
+            }
+        } catch (IOException | RuntimeException e) {
+            ok = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (measured) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+            histograms.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+            if (!ok) {
+                errors.get(operation).incrementAndGet();
+            }
+        }
+    }
+
+    private HttpRequest request(Operation operation) throws JsonProcessingException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int seeded = random.nextInt(options.customers());
+        return switch (operation) {
+            case GET -> HttpRequest.newBuilder(URI.create(customersUrl + "/" + seededId(seeded))).GET().build();
+            case SEARCH -> HttpRequest.newBuilder(URI.create(customersUrl + "?size=20&"
+                    + SEARCHES[random.nextInt(SEARCHES.length)])).GET().build();
+            case CREATE -> {
+                int index = nextCreatedId.getAndIncrement();
+                yield json("POST", customersUrl, SyntheticCustomers.request(createdId(index), index));
+            }
+            case UPDATE -> {
+                CustomerRequest values =
+                        SyntheticCustomers.request(seededId(seeded), seeded + random.nextInt(1000));
+                yield json("PUT", customersUrl + "/" + values.customerId(), new CustomerUpdateRequest(
+                        values.companyName(), values.contactName(), values.contactTitle(), values.address(),
+                        values.city(), values.region(), values.postalCode(), values.country(), values.phone(),
+                        values.fax(), values.contactEmail()));
+            }
+            case DELETE -> {
+                // Falls back to an unknown ID (404, counted as an error) if no created customer is left
+                String id = createdIds.poll();
+                yield HttpRequest.newBuilder(URI.create(customersUrl + "/"
+                        + URLEncoder.encode(id != null ? id : "NONE0", StandardCharsets.UTF_8))).DELETE().build();
+            }
+        };
+    }
+
+    private HttpRequest json(String method, String url, Object body) throws JsonProcessingException {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private static String idFromLocation(HttpResponse<?> response) {
+        String location = response.headers().firstValue("Location").orElseThrow();
+        return location.substring(location.lastIndexOf('/') + 1);
+    }
+
+    private Operation[] weightedSchedule() {
+        List<Operation> schedule = new ArrayList<>();
+        options.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        return schedule.toArray(Operation[]::new);
+    }
+
+    private void report() throws IOException {
+        Files.createDirectories(options.output());
+        double seconds = options.duration().toMillis() / 1000.0;
+        StringBuilder csv = new StringBuilder("endpoint,count,rate,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,errors\n");
+
+        System.out.printf("%n%-16s %9s %9s %9s %9s %9s %9s %9s %8s%n", "endpoint", "count", "req/s", "p50 ms",
+                "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+        for (Operation operation : options.mix().keySet()) {
+            Histogram histogram = histograms.get(operation);
+            String line = String.format(Locale.ROOT, "%s,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f,%d",
+                    operation.endpoint(), histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0, errors.get(operation).get());
+            csv.append(line).append('\n');
+            String[] fields = line.split(",");
+            System.out.printf("%-16s %9s %9s %9s %9s %9s %9s %9s %8s%n", (Object[]) fields);
+
+            try (PrintStream out = new PrintStream(options.output().resolve(operation.endpoint() + ".hgrm").toFile(),
+                    StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        Files.writeString(options.output().resolve("summary.csv"), csv);
+        System.out.printf("%nMax dispatch lag %.2f ms; results in %s%n",
+                maxDispatchLagNanos.get() / 1_000_000.0, options.output().toAbsolutePath());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static String seededId(int index) {
+        return id('S', index);
+    }
+
+    private static String createdId(int index) {
+        return id('N', index);
+    }
+
+    /** Five-character IDs: a prefix letter and four base-36 digits. */
+    private static String id(char prefix, int index) {
+        String suffix = Integer.toString(index % (36 * 36 * 36 * 36), 36).toUpperCase(Locale.ROOT);
+        return prefix + "0".repeat(4 - suffix.length()) + suffix;
+    }
+}
@@ -0,0 +1,104 @@
+package com.customer.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command-line options of {@link LoadTest}, given as {@code --name=value}.
+ * Options starting with {@code --spring.}, {@code --server.},
+ * {@code --customer.} or {@code --logging.} are passed on to the in-process
+ * application instead.
+ *
+ * @param target    base URL of an already running application; when absent the application is started in-process
+ * @param jdbcUrl   scratch database for the in-process application; when absent a Testcontainers PostgreSQL is used
+ * @param customers number of synthetic customers to seed before the run
+ * @param seed      whether to seed at all (turn off when re-running against a seeded target)
+ * @param rate      requests per second, issued on a fixed schedule whether or not earlier requests have completed
+ * @param warmup    time spent at the target rate before measuring starts
+ * @param duration  measured time
+ * @param mix       relative weight of each operation
+ * @param output    directory for the percentile distributions and summary
+ * @param appArgs   properties for the in-process application
+ */
+record LoadTestOptions(
+    String target,
+    String jdbcUrl,
+    int customers,
+    boolean seed,
+    int rate,
+    Duration warmup,
+    Duration duration,
+    Map<Operation, Integer> mix,
+    Path output,
+    Map<String, String> appArgs
+) {
+
+    private static final String[] APP_PREFIXES = {"spring.", "server.", "customer.", "logging."};
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        Map<String, String> appArgs = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            (isAppProperty(name) ? appArgs : options).put(name, value);
+        }
+
+        LoadTestOptions parsed = new LoadTestOptions(
+                options.remove("target"),
+                options.remove("jdbc-url"),
+                Integer.parseInt(remove(options, "customers", "10000")),
+                Boolean.parseBoolean(remove(options, "seed", "true")),
+                Integer.parseInt(remove(options, "rate", "200")),
+                DurationStyle.detectAndParse(remove(options, "warmup", "10s")),
+                DurationStyle.detectAndParse(remove(options, "duration", "60s")),
+                parseMix(remove(options, "mix", "get:60,search:20,create:5,update:10,delete:5")),
+                Path.of(remove(options, "output", "target/loadtest-results")),
+                appArgs);
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        }
+        if (parsed.rate() < 1) {
+            throw new IllegalArgumentException("--rate must be at least 1");
+        }
+        return parsed;
+    }
+
+    private static String remove(Map<String, String> options, String name, String defaultValue) {
+        String value = options.remove(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private static boolean isAppProperty(String name) {
+        for (String prefix : APP_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Parses {@code get:60,search:20,...}; operations left out are not run. */
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight in --mix but got " + entry);
+            }
+            weights.put(Operation.fromName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("--mix needs at least one positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,31 @@
+package com.customer.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/** The {@code CustomerController} endpoints driven by the load test. */
+enum Operation {
+    GET("getCustomerById"),
+    SEARCH("searchCustomers"),
+    CREATE("createCustomer"),
+    UPDATE("updateCustomer"),
+    DELETE("deleteCustomer");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.name().equals(name.toUpperCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation " + name
+                        + ", expected one of " + Arrays.toString(values()).toLowerCase(Locale.ROOT)));
+    }
+}
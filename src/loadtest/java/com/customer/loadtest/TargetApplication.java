@@ -0,0 +1,75 @@
+package com.customer.loadtest;
+
+import com.customer.CustomerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The application under test: either an external instance, or one started in
+ * this JVM on a random port against a Testcontainers PostgreSQL (or a scratch
+ * database). The in-process instance shares CPUs with the load generator, so
+ * use {@code --target} when absolute numbers matter more than convenience.
+ */
+final class TargetApplication implements AutoCloseable {
+
+    private final String baseUrl;
+    private final PostgreSQLContainer<?> database;
+    private final ConfigurableApplicationContext context;
+
+    private TargetApplication(String baseUrl, PostgreSQLContainer<?> database, ConfigurableApplicationContext context) {
+        this.baseUrl = baseUrl;
+        this.database = database;
+        this.context = context;
+    }
+
+    static TargetApplication start(LoadTestOptions options) {
+        if (options.target() != null) {
+            return new TargetApplication(options.target(), null, null);
+        }
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        PostgreSQLContainer<?> database = null;
+        if (options.jdbcUrl() == null) {
+            database = new PostgreSQLContainer<>("postgres:15");
+            database.start();
+            properties.put("spring.datasource.url", database.getJdbcUrl());
+            properties.put("spring.datasource.username", database.getUsername());
+            properties.put("spring.datasource.password", database.getPassword());
+        } else {
+            properties.put("spring.datasource.url", options.jdbcUrl());
+        }
+        properties.put("server.port", "0");
+        properties.put("spring.main.banner-mode", "off");
+        // Per-request INFO logging would flood the report; pass --logging.level.com.customer=INFO to include it
+        properties.put("logging.level.com.customer", "WARN");
+        properties.put("logging.level.org.hibernate", "ERROR");
+        properties.putAll(options.appArgs());
+
+        // Command-line arguments take precedence over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CustomerApplication.class).run(args);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return new TargetApplication("http://localhost:" + port, database, context);
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public void close() {
+        if (context != null) {
+            context.close();
+        }
+        if (database != null) {
+            database.stop();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.customer.cache;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Lets an instance recognise its own customer change notifications. The
+ * {@code notify_customer_changes} trigger starts each payload with the
+ * writing connection's {@code application_name}, so the primary pool's
+ * connections are named after this instance's ID. Listeners skip their own
+ * messages because the local cache was already updated by the write itself.
+ */
+@Component
+public class CacheSyncInstanceId implements BeanPostProcessor {
+
+    private final String instanceId = "fantaco-customer-" + UUID.randomUUID();
+
+    public String value() {
+        return instanceId;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        // Replica pools are read-only and not beans; only the pool that writes needs the name
+        if (bean instanceof HikariDataSource pool) {
+            pool.addDataSourceProperty("ApplicationName", instanceId);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,101 @@
+package com.customer.cache;
+
+import com.customer.config.CacheConfig;
+import com.customer.dto.CustomerResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The {@code customers} cache, filled on a miss in a way that cannot outlive
+ * an eviction. A reader that misses takes a {@link #ticket} before its query
+ * and offers the row it read to {@link #fill}; every eviction first advances
+ * the generation of the key's stripe, so a row read before the change that
+ * caused the eviction is dropped instead of being cached until it expires.
+ *
+ * <p>Fills never replace an entry, so they cannot overwrite what a writer's
+ * {@code @CachePut} stored in the meantime. Evictions for other reasons must
+ * go through this class rather than the {@link Cache} itself.
+ */
+@Component
+public class CustomerCache {
+
+    private static final int STRIPES = 1024;
+
+    private final Cache cache;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    private final AtomicLong epoch = new AtomicLong();
+
+    public CustomerCache(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.CUSTOMERS));
+    }
+
+    public CustomerResponse get(String customerId) {
+        return cache.get(customerId, CustomerResponse.class);
+    }
+
+    /** Taken before reading the row a later {@link #fill} will offer. */
+    public long ticket(String customerId) {
+        // Both only ever grow, so the sum changes whenever either does
+        return epoch.get() + generations.get(stripe(customerId));
+    }
+
+    /**
+     * Caches a row read after {@code ticket} was taken, unless the customer
+     * was evicted since or is already cached.
+     */
+    public void fill(String customerId, CustomerResponse customer, long ticket) {
+        if (ticket(customerId) != ticket) {
+            return;
+        }
+        cache.putIfAbsent(customerId, customer);
+        if (ticket(customerId) != ticket) {
+            // Evicted between the check and the put: the eviction may have run first
+            cache.evict(customerId);
+        }
+    }
+
+    public void evict(String customerId) {
+        generations.incrementAndGet(stripe(customerId));
+        cache.evict(customerId);
+    }
+
+    public void clear() {
+        epoch.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * Evicts the customers once the current transaction has committed, so a
+     * fill that read them before the commit cannot be cached after it; right
+     * away if no transaction is active.
+     */
+    public void evictAfterCommit(Collection<String> customerIds) {
+        if (customerIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            customerIds.forEach(this::evict);
+            return;
+        }
+        List<String> ids = List.copyOf(customerIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(CustomerCache.this::evict);
+            }
+        });
+    }
+
+    private static int stripe(String customerId) {
+        return Math.floorMod(customerId.hashCode(), STRIPES);
+    }
+}
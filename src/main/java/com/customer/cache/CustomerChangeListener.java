@@ -0,0 +1,136 @@
+package com.customer.cache;
+
+import com.customer.config.CacheSyncProperties;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Listens for the change notifications that the {@code notify_customer_changes}
+ * trigger sends for every write and evicts the customers changed by other
+ * instances from the local cache.
+ *
+ * <p>Uses its own long-lived connection outside the pool, since a LISTEN
+ * connection is held for the life of the process. Whenever the connection is
+ * (re)established the whole cache is cleared, because notifications sent
+ * while it was down are lost.
+ */
+@Component
+@ConditionalOnProperty(name = "customer.cache.sync.enabled", havingValue = "true")
+public class CustomerChangeListener implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerChangeListener.class);
+
+    // Fixed by the trigger in schema-postgresql.sql
+    private static final String CHANNEL = "customer_changes";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheSyncProperties properties;
+    private final CacheSyncInstanceId instanceId;
+    private final CustomerCache cache;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public CustomerChangeListener(DataSourceProperties dataSourceProperties, CacheSyncProperties properties,
+                                  CacheSyncInstanceId instanceId, CustomerCache cache) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+        this.instanceId = instanceId;
+        this.cache = cache;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform().name("customer-change-listener").daemon().start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                cache.clear();
+                logger.info("Listening for customer changes on channel {}", CHANNEL);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                int timeoutMillis = (int) properties.pollInterval().toMillis();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handleSafely(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                if (e instanceof SQLException) {
+                    logger.warn("Customer change listener connection failed, reconnecting in {}: {}",
+                            properties.reconnectDelay(), e.getMessage());
+                } else {
+                    logger.error("Customer change listener failed, reconnecting in {}",
+                            properties.reconnectDelay(), e);
+                }
+                try {
+                    Thread.sleep(properties.reconnectDelay());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * A notification that cannot be applied may have named customers that are
+     * still cached, so the whole cache is cleared, as after a reconnect.
+     */
+    private void handleSafely(String payload) {
+        try {
+            handle(payload);
+        } catch (RuntimeException e) {
+            logger.error("Could not apply customer change notification {}, clearing the cache", payload, e);
+            cache.clear();
+        }
+    }
+
+    private void handle(String payload) {
+        String[] lines = payload.split("\n");
+        if (lines[0].equals(instanceId.value())) {
+            return;
+        }
+        for (int i = 1; i < lines.length; i++) {
+            cache.evict(lines[i]);
+        }
+        logger.debug("Evicted {} customers changed by instance {}", lines.length - 1, lines[0]);
+    }
+}
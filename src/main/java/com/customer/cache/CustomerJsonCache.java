@@ -0,0 +1,87 @@
+package com.customer.cache;
+
+import com.customer.config.CacheConfig;
+import com.customer.dto.CustomerResponse;
+import com.customer.web.PreEncodedJson;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps the UTF-8 JSON of each customer so unchanged customers are not
+ * serialized again on every response.
+ *
+ * <p>An entry stores the {@link CustomerResponse} it was encoded from, and the
+ * bytes are only reused while that snapshot equals the customer being
+ * returned. Any write produces a different snapshot (at least the version
+ * changes), so the first response after a change re-encodes it once and
+ * later reads reuse those bytes; there is no separate invalidation to get
+ * wrong.
+ */
+@Component
+public class CustomerJsonCache {
+
+    private final ObjectWriter writer;
+    private final Cache cache;
+
+    public CustomerJsonCache(ObjectMapper objectMapper, CacheManager cacheManager) {
+        this.writer = objectMapper.writerFor(CustomerResponse.class);
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.CUSTOMER_JSON));
+    }
+
+    public PreEncodedJson encode(CustomerResponse customer) {
+        return PreEncodedJson.of(customer, bytesOf(customer));
+    }
+
+    /**
+     * Encodes the customers as a JSON array, reusing the cached bytes of any
+     * customer whose entry still matches, but caching none of the others. A
+     * search page is rarely requested again with the same rows, and caching
+     * them would push out the customers that single-customer reads revisit.
+     */
+    public PreEncodedJson encodeAll(List<CustomerResponse> customers) {
+        List<byte[]> elements = new ArrayList<>(customers.size());
+        for (CustomerResponse customer : customers) {
+            byte[] cached = cachedBytesOf(customer);
+            elements.add(cached != null ? cached : write(customer));
+        }
+        return PreEncodedJson.array(customers, elements);
+    }
+
+    private byte[] bytesOf(CustomerResponse customer) {
+        byte[] cached = cachedBytesOf(customer);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] json = write(customer);
+        cache.put(customer.customerId(), new Encoded(customer, json));
+        return json;
+    }
+
+    /** The cached bytes, if they were encoded from this very state of the customer. */
+    private byte[] cachedBytesOf(CustomerResponse customer) {
+        Encoded cached = cache.get(customer.customerId(), Encoded.class);
+        if (cached != null && (cached.customer() == customer || cached.customer().equals(customer))) {
+            return cached.json();
+        }
+        return null;
+    }
+
+    private byte[] write(CustomerResponse customer) {
+        try {
+            return writer.writeValueAsBytes(customer);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Encoded(CustomerResponse customer, byte[] json) {}
+}
@@ -0,0 +1,25 @@
+package com.customer.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * One-line-per-request access log for {@code /api/**}, written to the
+ * {@code com.customer.access} logger.
+ *
+ * @param enabled           write access log lines at all
+ * @param payloadSampleRate fraction of requests (0.0 to 1.0) whose request and response bodies are logged to
+ *                          {@code com.customer.access.payload}; all of them when that logger is at DEBUG
+ * @param maxPayloadLength  bodies are truncated to this many characters
+ */
+@Validated
+@ConfigurationProperties(prefix = "customer.access-log")
+public record AccessLogProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("0.0") @DecimalMin("0.0") @DecimalMax("1.0") double payloadSampleRate,
+    @DefaultValue("2000") @Min(0) int maxPayloadLength
+) {}
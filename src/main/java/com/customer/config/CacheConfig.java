@@ -0,0 +1,22 @@
+package com.customer.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Enables the Caffeine-backed customer caches (sized and expired through
+ * {@code spring.cache.caffeine.spec}): {@link #CUSTOMERS} holds customer
+ * responses, {@link #CUSTOMER_JSON} their encoded JSON.
+ *
+ * <p>The caching advice is ordered ahead of the transaction advice so that a
+ * cache hit never opens a transaction or borrows a connection, and puts and
+ * evictions only happen once the write transaction has committed.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String CUSTOMERS = "customers";
+    public static final String CUSTOMER_JSON = "customer-json";
+}
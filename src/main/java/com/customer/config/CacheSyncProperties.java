@@ -0,0 +1,24 @@
+package com.customer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Cross-replica cache invalidation over PostgreSQL LISTEN/NOTIFY. The
+ * notifications are sent by a trigger on the customer table, whether or not
+ * any instance listens.
+ *
+ * @param enabled        listen for customer change notifications
+ * @param pollInterval   how long the listener waits for notifications before re-checking for shutdown
+ * @param reconnectDelay pause before re-opening the listener connection after a failure
+ */
+@Validated
+@ConfigurationProperties(prefix = "customer.cache.sync")
+public record CacheSyncProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("5s") Duration pollInterval,
+    @DefaultValue("5s") Duration reconnectDelay
+) {}
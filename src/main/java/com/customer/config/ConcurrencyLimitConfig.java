@@ -0,0 +1,43 @@
+package com.customer.config;
+
+import com.customer.datasource.ConnectionLimitingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Puts the application's DataSource behind a {@link ConnectionLimitingDataSource},
+ * whether it is the auto-configured pool or the routing DataSource used with
+ * read replicas. In the latter case the limit goes inside the lazy proxy, so
+ * a transaction only takes a slot once it runs a statement.
+ */
+@Configuration
+@ConditionalOnProperty(name = "customer.concurrency.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    private static final String DATA_SOURCE = "dataSource";
+
+    // Static, with the properties looked up lazily, so registering it does not create other beans early
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSource(ObjectProvider<ConcurrencyLimitProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                if (bean instanceof LazyConnectionDataSourceProxy lazy) {
+                    lazy.setTargetDataSource(new ConnectionLimitingDataSource(lazy.getTargetDataSource(),
+                            properties.getObject()));
+                    return lazy;
+                }
+                return new ConnectionLimitingDataSource(dataSource, properties.getObject());
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.customer.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Admission control for database connections, sized against the JDBC
+ * connection pool so excess load waits in a short queue or is shed with
+ * {@code 503} instead of piling up on connection acquisition.
+ *
+ * @param enabled        apply the limit at all
+ * @param maxConnections connections allowed to be in use at once
+ * @param maxQueued      callers allowed to wait for a connection; any more are rejected immediately
+ * @param queueTimeout   how long a queued caller waits for a connection before it is rejected
+ * @param retryAfter     value of the {@code Retry-After} header on rejected requests
+ */
+@Validated
+@ConfigurationProperties(prefix = "customer.concurrency")
+public record ConcurrencyLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10") @Min(1) int maxConnections,
+    @DefaultValue("100") @Min(0) int maxQueued,
+    @DefaultValue("500ms") Duration queueTimeout,
+    @DefaultValue("1s") Duration retryAfter
+) {}
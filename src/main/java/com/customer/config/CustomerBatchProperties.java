@@ -0,0 +1,16 @@
+package com.customer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limits for {@code POST /api/customers/batch}.
+ *
+ * @param maxItems     largest number of customers accepted in one request
+ * @param jdbcBatchSize number of rows sent to the database per JDBC batch
+ */
+@ConfigurationProperties(prefix = "customer.batch")
+public record CustomerBatchProperties(
+    @DefaultValue("10000") int maxItems,
+    @DefaultValue("500") int jdbcBatchSize
+) {}
@@ -0,0 +1,26 @@
+package com.customer.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings for the change feed ({@code GET /api/customers/changes}).
+ *
+ * @param settleTime     only changes at least this old are returned. {@code updated_at} is set when the write
+ *                       starts but becomes visible at commit, so a shorter window could let a cursor move past a
+ *                       change that commits later; keep it above the longest write transaction (a full batch
+ *                       import) plus the clock skew between instances
+ * @param defaultLimit   changes per page when the request gives no {@code limit}
+ * @param maxLimit       upper bound for a requested {@code limit}
+ */
+@Validated
+@ConfigurationProperties(prefix = "customer.changes")
+public record CustomerChangesProperties(
+    @DefaultValue("30s") Duration settleTime,
+    @DefaultValue("500") @Min(1) int defaultLimit,
+    @DefaultValue("5000") @Min(1) int maxLimit
+) {}
@@ -0,0 +1,24 @@
+package com.customer.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings for the location facets ({@code GET /api/customers/facets}).
+ *
+ * @param compactionInterval how often the per-write count deltas are folded into the location counts; reads add
+ *                           up the deltas not folded yet, so this bounds their cost, not their freshness
+ * @param defaultLimit       values per facet when the request gives no {@code limit}
+ * @param maxLimit           upper bound for a requested {@code limit}
+ */
+@Validated
+@ConfigurationProperties(prefix = "customer.facets")
+public record CustomerFacetProperties(
+    @DefaultValue("5s") Duration compactionInterval,
+    @DefaultValue("100") @Min(1) int defaultLimit,
+    @DefaultValue("1000") @Min(1) int maxLimit
+) {}
@@ -0,0 +1,23 @@
+package com.customer.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Coalescing of single-customer reads that miss the cache.
+ *
+ * @param enabled      share in-flight loads and batch concurrent ones; when off each miss runs its own query
+ * @param window       how long the first ID of a batch waits for more IDs to join it
+ * @param maxBatchSize a batch is loaded as soon as it has this many IDs, without waiting out the window
+ */
+@Validated
+@ConfigurationProperties(prefix = "customer.loader")
+public record CustomerLoaderProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("1ms") Duration window,
+    @DefaultValue("100") @Min(1) int maxBatchSize
+) {}
@@ -0,0 +1,14 @@
+package com.customer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limits for {@code POST /api/customers/lookup}.
+ *
+ * @param maxIds largest number of customer IDs accepted in one request
+ */
+@ConfigurationProperties(prefix = "customer.lookup")
+public record CustomerLookupProperties(
+    @DefaultValue("500") int maxIds
+) {}
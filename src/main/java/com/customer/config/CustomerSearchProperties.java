@@ -0,0 +1,16 @@
+package com.customer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Paging limits for {@code GET /api/customers}.
+ *
+ * @param defaultPageSize page size used when the client does not ask for one
+ * @param maxPageSize     upper bound applied to any client-requested page size
+ */
+@ConfigurationProperties(prefix = "customer.search")
+public record CustomerSearchProperties(
+    @DefaultValue("100") int defaultPageSize,
+    @DefaultValue("1000") int maxPageSize
+) {}
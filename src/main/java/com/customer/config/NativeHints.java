@@ -0,0 +1,38 @@
+package com.customer.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import com.customer.dto.CustomerFieldsPage;
+import com.customer.dto.CustomerResponse;
+import com.customer.web.PreEncodedJson;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reflection and resource hints for the native image ({@code -Pnative}) that
+ * Spring AOT cannot infer from controller signatures: customers serialized by
+ * {@link com.customer.cache.CustomerJsonCache} and built by Hibernate
+ * constructor projections, the pre-encoded body type, the async logback
+ * appender and the SQL init scripts.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHints.Registrar.class)
+public class NativeHints {
+
+    static class Registrar implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                    CustomerResponse.class, CustomerFieldsPage.class, PreEncodedJson.class);
+            hints.reflection().registerType(CustomerResponse.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            hints.reflection().registerType(AsyncAppender.class,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.resources().registerPattern("schema-postgresql.sql");
+            hints.resources().registerPattern("data.sql");
+        }
+    }
+}
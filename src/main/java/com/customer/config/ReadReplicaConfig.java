@@ -0,0 +1,71 @@
+package com.customer.config;
+
+import com.customer.datasource.ReadWriteRoutingDataSource;
+import com.customer.datasource.ReplicaHealthMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource when read replicas are enabled.
+ * The primary pool is built from {@code spring.datasource.*} as before; JPA,
+ * JdbcTemplate and SQL init all get the routing DataSource, so writes and
+ * read-write transactions stay on the primary and read-only transactions go
+ * to a replica.
+ */
+@Configuration
+@ConditionalOnProperty(name = "customer.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaHealthMonitor readReplicas(DataSourceProperties dataSourceProperties,
+                                             ReadReplicaProperties properties,
+                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        if (properties.urls().isEmpty()) {
+            throw new IllegalStateException("customer.read-replicas.urls must list at least one replica");
+        }
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < properties.urls().size(); i++) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + (i + 1));
+            pool.setJdbcUrl(properties.urls().get(i));
+            pool.setUsername(properties.username() != null
+                    ? properties.username() : dataSourceProperties.determineUsername());
+            pool.setPassword(properties.password() != null
+                    ? properties.password() : dataSourceProperties.determinePassword());
+            pool.setMaximumPoolSize(properties.maximumPoolSize());
+            pool.setConnectionTimeout(properties.connectionTimeout().toMillis());
+            pool.setReadOnly(true);
+            // Don't fail startup over a replica that is down; it is simply not used until it answers
+            pool.setInitializationFailTimeout(-1);
+            meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(
+                    new MicrometerMetricsTrackerFactory(registry)));
+            pools.add(pool);
+        }
+        return new ReplicaHealthMonitor(pools, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaHealthMonitor readReplicas) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaryDataSource, readReplicas));
+    }
+}
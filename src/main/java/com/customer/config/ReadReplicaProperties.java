@@ -0,0 +1,40 @@
+package com.customer.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas that serve read-only transactions.
+ *
+ * @param enabled           route read-only transactions to the replicas
+ * @param urls              JDBC URLs of the replicas
+ * @param username          replica user; defaults to {@code spring.datasource.username}
+ * @param password          replica password; defaults to {@code spring.datasource.password}
+ * @param maximumPoolSize   connections per replica pool
+ * @param connectionTimeout how long a read waits for a replica connection before falling back to the primary
+ * @param maxLag            replicas further behind the primary than this are not used
+ * @param checkInterval     how often each replica's reachability and lag are checked
+ * @param lagQuery          returns the replica's replay lag in seconds as a single number
+ */
+@Validated
+@ConfigurationProperties(prefix = "customer.read-replicas")
+public record ReadReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue List<String> urls,
+    String username,
+    String password,
+    @DefaultValue("10") @Min(1) int maximumPoolSize,
+    @DefaultValue("1s") Duration connectionTimeout,
+    @DefaultValue("5s") Duration maxLag,
+    @DefaultValue("5s") Duration checkInterval,
+    @DefaultValue("""
+        SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                    ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END""")
+    @NotBlank String lagQuery
+) {}
@@ -1,22 +1,64 @@
 package com.customer.controller;
 
+import com.customer.cache.CustomerJsonCache;
+import com.customer.dto.CustomerBatchResponse;
+import com.customer.dto.CustomerChanges;
+import com.customer.dto.CustomerFacets;
+import com.customer.dto.CustomerFieldsPage;
+import com.customer.dto.CustomerLookupRequest;
+import com.customer.dto.CustomerLookupResponse;
+import com.customer.dto.CustomerPage;
+import com.customer.dto.CustomerPatch;
 import com.customer.dto.CustomerRequest;
 import com.customer.dto.CustomerResponse;
+import com.customer.dto.CustomerSearchCriteria;
+import com.customer.dto.CustomerSearchHit;
 import com.customer.dto.CustomerUpdateRequest;
+import com.customer.dto.CustomerVersion;
+import com.customer.exception.BatchTooLargeException;
+import com.customer.exception.InvalidBatchRequestException;
+import com.customer.exception.PreconditionFailedException;
+import com.customer.service.CustomerBatchService;
+import com.customer.service.CustomerChangesService;
+import com.customer.service.CustomerFacetService;
 import com.customer.service.CustomerService;
+import com.customer.web.PreEncodedJson;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/customers")
@@ -25,21 +67,37 @@ public class CustomerController {
 
     private static final Logger logger = LoggerFactory.getLogger(CustomerController.class);
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final CustomerService customerService;
+    private final CustomerBatchService batchService;
+    private final CustomerChangesService changesService;
+    private final CustomerFacetService facetService;
+    private final CustomerJsonCache jsonCache;
+    private final ObjectMapper objectMapper;
 
-    public CustomerController(CustomerService customerService) {
+    public CustomerController(CustomerService customerService, CustomerBatchService batchService,
+                              CustomerChangesService changesService, CustomerFacetService facetService,
+                              CustomerJsonCache jsonCache, ObjectMapper objectMapper) {
         this.customerService = customerService;
+        this.batchService = batchService;
+        this.changesService = changesService;
+        this.facetService = facetService;
+        this.jsonCache = jsonCache;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
     @Operation(summary = "Create a new customer", description = "Creates a new customer record with the provided information")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "201", description = "Customer created successfully"),
+        @ApiResponse(responseCode = "201", description = "Customer created successfully",
+                content = @Content(schema = @Schema(implementation = CustomerResponse.class))),
         @ApiResponse(responseCode = "400", description = "Invalid input data"),
         @ApiResponse(responseCode = "409", description = "Customer ID already exists")
     })
-    public ResponseEntity<CustomerResponse> createCustomer(@Valid @RequestBody CustomerRequest request) {
-        logger.info("createCustomer called with request: {}", request);
+    public ResponseEntity<PreEncodedJson> createCustomer(@Valid @RequestBody CustomerRequest request) {
         CustomerResponse response = customerService.createCustomer(request);
 
         URI location = ServletUriComponentsBuilder
@@ -48,66 +106,287 @@ public class CustomerController {
                 .buildAndExpand(response.customerId())
                 .toUri();
 
-        logger.info("createCustomer returning response: {}", response);
-        return ResponseEntity.created(location).body(response);
+        return ResponseEntity.created(location).eTag(etagOf(response)).body(jsonCache.encode(response));
+    }
+
+    @PostMapping(value = "/batch", consumes = "application/json")
+    @Operation(summary = "Create customers in bulk", description = "Validates each customer in a JSON array and writes "
+            + "the valid ones in JDBC batches. Existing IDs are reported as DUPLICATE, or overwritten when "
+            + "onConflict=update. Returns one result per item.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Empty batch"),
+        @ApiResponse(responseCode = "413", description = "Batch exceeds the configured item limit")
+    })
+    public ResponseEntity<CustomerBatchResponse> createCustomersBatch(
+            @RequestBody List<CustomerRequest> requests,
+            @RequestParam(defaultValue = "skip") BatchConflictMode onConflict) {
+        CustomerBatchResponse response = batchService.createCustomers(requests, onConflict == BatchConflictMode.update);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/batch", consumes = "application/x-ndjson")
+    @Operation(summary = "Create customers in bulk from NDJSON", description = "Same as the JSON array variant, but "
+            + "reads one customer JSON object per line.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Empty batch or malformed NDJSON"),
+        @ApiResponse(responseCode = "413", description = "Batch exceeds the configured item limit")
+    })
+    public ResponseEntity<CustomerBatchResponse> createCustomersBatchNdjson(
+            InputStream body,
+            @RequestParam(defaultValue = "skip") BatchConflictMode onConflict) throws IOException {
+        List<CustomerRequest> requests = new ArrayList<>();
+        try (MappingIterator<CustomerRequest> lines = objectMapper.readerFor(CustomerRequest.class).readValues(body)) {
+            while (lines.hasNextValue()) {
+                if (requests.size() == batchService.maxItems()) {
+                    throw new BatchTooLargeException("Batch exceeds the limit of " + batchService.maxItems()
+                            + " customers");
+                }
+                requests.add(lines.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidBatchRequestException("Malformed NDJSON at line " + e.getLocation().getLineNr()
+                    + ": " + e.getOriginalMessage());
+        }
+        return createCustomersBatch(requests, onConflict);
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Look up customers by ID", description = "Resolves up to customer.lookup.max-ids customer "
+            + "IDs in one request: cached customers are answered from the cache and the rest are read with a single "
+            + "query. Returns the customers found, in request order, and the IDs that do not exist.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Customers found and missing IDs"),
+        @ApiResponse(responseCode = "400", description = "Empty ID list or malformed customer ID"),
+        @ApiResponse(responseCode = "413", description = "More IDs than the configured limit")
+    })
+    public ResponseEntity<CustomerLookupResponse> lookupCustomers(@Valid @RequestBody CustomerLookupRequest request) {
+        return ResponseEntity.ok(customerService.lookupCustomers(request.customerIds()));
     }
 
     @GetMapping("/{customerId}")
-    @Operation(summary = "Get customer by ID", description = "Retrieves a single customer record by its unique identifier")
+    @Operation(summary = "Get customer by ID", description = "Retrieves a single customer record by its unique "
+            + "identifier. The ETag is the customer's version; send it back in If-None-Match to get 304 Not Modified "
+            + "while the customer is unchanged.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Customer found"),
+        @ApiResponse(responseCode = "200", description = "Customer found",
+                content = @Content(schema = @Schema(implementation = CustomerResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Customer unchanged since the ETag in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Customer not found")
     })
-    public ResponseEntity<CustomerResponse> getCustomerById(@PathVariable String customerId) {
-        logger.info("getCustomerById called with customerId: {}", customerId);
+    public ResponseEntity<PreEncodedJson> getCustomerById(@PathVariable String customerId, WebRequest webRequest) {
+        // Revalidation needs only the version, so a 304 never loads or serializes the full customer
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(customerService.getCustomerVersion(customerId).etag())) {
+            return null;
+        }
         CustomerResponse response = customerService.getCustomerById(customerId);
-        logger.info("getCustomerById returning response: {}", response);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etagOf(response)).body(jsonCache.encode(response));
     }
 
     @GetMapping
-    @Operation(summary = "Search customers", description = "Search for customers by various fields with partial matching")
+    @Operation(summary = "Search customers", description = "Search for customers by any combination of fields with "
+            + "partial, case-insensitive matching; all supplied filters must match. Results are sorted by 'sort' "
+            + "(default customerId) and returned one page at a time; when more results exist the X-Next-Cursor "
+            + "response header carries the token to pass as 'cursor' for the next page. With 'fields' only the "
+            + "listed fields are read and returned, plus customerId and version.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Page of customers matching the search criteria",
+                content = @Content(array = @ArraySchema(schema = @Schema(implementation = CustomerResponse.class)))),
+        @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag in If-None-Match"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, sort or fields")
+    })
+    public ResponseEntity<?> searchCustomers(
+            @ParameterObject CustomerSearchCriteria criteria,
+            @Parameter(description = "Sort as field[,asc|desc], e.g. companyName,desc")
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Comma-separated fields to return, e.g. companyName,contactName,city,country")
+            @RequestParam(required = false) String fields) {
+        if (fields != null && !fields.isBlank()) {
+            CustomerFieldsPage page = customerService.searchCustomerFields(criteria, sort, size, cursor, fields);
+            StringBuilder key = new StringBuilder(fields);
+            for (Map<String, Object> customer : page.customers()) {
+                // Without the creation time, a re-created customer's row can repeat an old ID and version
+                key.append(';').append(customer);
+            }
+            return pageResponse(key, page.nextCursor()).body(page.customers());
+        }
+
+        CustomerPage page = customerService.searchCustomers(criteria, sort, size, cursor);
+        StringBuilder key = new StringBuilder();
+        for (CustomerResponse customer : page.customers()) {
+            key.append(';').append(customer.customerId()).append(':').append(CustomerVersion.of(customer));
+        }
+        return pageResponse(key, page.nextCursor()).body(jsonCache.encodeAll(page.customers()));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Ranked customer search", description = "Free-text search across company name, contact name, "
+            + "contact email and phone (punctuation ignored). Hits are ordered by relevance score, best first.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ranked list of matching customers"),
+        @ApiResponse(responseCode = "400", description = "Missing or blank search term")
+    })
+    public ResponseEntity<List<CustomerSearchHit>> rankedSearch(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer limit) {
+        List<CustomerSearchHit> hits = customerService.rankedSearch(q, limit);
+        return ResponseEntity.ok(hits);
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @Operation(summary = "Export all customers", description = "Streams every customer as newline-delimited JSON, "
+            + "ordered by customer ID. Rows are written as they are read from the database, so memory use stays flat "
+            + "regardless of table size.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "List of customers matching the search criteria")
+        @ApiResponse(responseCode = "200", description = "NDJSON stream of all customers")
     })
-    public ResponseEntity<List<CustomerResponse>> searchCustomers(
-            @RequestParam(required = false) String companyName,
-            @RequestParam(required = false) String contactName,
-            @RequestParam(required = false) String contactEmail,
-            @RequestParam(required = false) String phone) {
-        logger.info("searchCustomers called with companyName: {}, contactName: {}, contactEmail: {}, phone: {}",
-                companyName, contactName, contactEmail, phone);
-        List<CustomerResponse> customers = customerService.searchCustomers(companyName, contactName, contactEmail, phone);
-        logger.info("searchCustomers returning {} customers", customers.size());
-        return ResponseEntity.ok(customers);
+    public ResponseEntity<StreamingResponseBody> exportCustomers() {
+        // Let the generator's buffer decide when to flush instead of flushing after every row
+        ObjectWriter writer = objectMapper.writerFor(CustomerResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                long count = customerService.exportCustomers(customer -> {
+                    try {
+                        writer.writeValue(generator, customer);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                logger.debug("exportCustomers streamed {} customers", count);
+            }
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Customer change feed", description = "Customers created, updated or deleted after the "
+            + "'since' cursor, oldest first. Store the returned cursor and pass it as 'since' on the next poll; "
+            + "without 'since' the feed starts from the beginning. Changes younger than customer.changes.settle-time "
+            + "are returned by a later poll. When hasMore is true, poll again right away.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Page of changes and the cursor to continue from"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CustomerChanges> getChanges(
+            @Parameter(description = "Cursor returned by the previous poll")
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(changesService.changesSince(since, limit));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Customer counts per location", description = "Number of customers per country, region "
+            + "and city, most frequent first, among the customers matching the optional exact-match filters. "
+            + "Served from counts kept up to date on every write rather than by grouping the customers.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Total and per-facet counts")
+    })
+    public ResponseEntity<CustomerFacets> getFacets(
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String city,
+            @Parameter(description = "Values per facet (most frequent first)")
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(facetService.getFacets(country, region, city, limit));
     }
 
     @PutMapping("/{customerId}")
-    @Operation(summary = "Update customer", description = "Updates an existing customer record")
+    @Operation(summary = "Update customer", description = "Updates an existing customer record. With If-Match the "
+            + "update only applies while the customer still has that ETag.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Customer updated successfully"),
+        @ApiResponse(responseCode = "200", description = "Customer updated successfully",
+                content = @Content(schema = @Schema(implementation = CustomerResponse.class))),
         @ApiResponse(responseCode = "400", description = "Invalid input data"),
-        @ApiResponse(responseCode = "404", description = "Customer not found")
+        @ApiResponse(responseCode = "404", description = "Customer not found"),
+        @ApiResponse(responseCode = "412", description = "Customer modified since the ETag in If-Match")
     })
-    public ResponseEntity<CustomerResponse> updateCustomer(
+    public ResponseEntity<PreEncodedJson> updateCustomer(
             @PathVariable String customerId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody CustomerUpdateRequest request) {
-        logger.info("updateCustomer called with customerId: {}, request: {}", customerId, request);
-        CustomerResponse response = customerService.updateCustomer(customerId, request);
-        logger.info("updateCustomer returning response: {}", response);
-        return ResponseEntity.ok(response);
+        CustomerResponse response = customerService.updateCustomer(customerId, request, expectedVersion(ifMatch));
+        // Encodes the updated customer once; later reads of this version reuse the bytes
+        return ResponseEntity.ok().eTag(etagOf(response)).body(jsonCache.encode(response));
+    }
+
+    @PatchMapping(value = "/{customerId}", consumes = {"application/merge-patch+json", "application/json"})
+    @Operation(summary = "Partially update customer", description = "Applies a JSON Merge Patch (RFC 7396): fields "
+            + "present in the body are set (null clears them), absent fields are left unchanged. Only columns whose "
+            + "value actually changes are written; a patch that changes nothing is a no-op.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Customer after the patch",
+                content = @Content(schema = @Schema(implementation = CustomerResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid patch document or resulting data"),
+        @ApiResponse(responseCode = "404", description = "Customer not found"),
+        @ApiResponse(responseCode = "412", description = "Customer modified since the ETag in If-Match")
+    })
+    public ResponseEntity<PreEncodedJson> patchCustomer(
+            @PathVariable String customerId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) {
+        CustomerResponse response = customerService.patchCustomer(customerId, CustomerPatch.fromJson(patch),
+                expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(etagOf(response)).body(jsonCache.encode(response));
     }
 
     @DeleteMapping("/{customerId}")
-    @Operation(summary = "Delete customer", description = "Permanently deletes a customer record (hard delete)")
+    @Operation(summary = "Delete customer", description = "Permanently deletes a customer record (hard delete). With "
+            + "If-Match the delete only applies while the customer still has that ETag.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Customer deleted successfully"),
-        @ApiResponse(responseCode = "404", description = "Customer not found")
+        @ApiResponse(responseCode = "404", description = "Customer not found"),
+        @ApiResponse(responseCode = "412", description = "Customer modified since the ETag in If-Match")
     })
-    public ResponseEntity<Void> deleteCustomer(@PathVariable String customerId) {
-        logger.info("deleteCustomer called with customerId: {}", customerId);
-        customerService.deleteCustomer(customerId);
-        logger.info("deleteCustomer completed successfully for customerId: {}", customerId);
+    public ResponseEntity<Void> deleteCustomer(
+            @PathVariable String customerId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        customerService.deleteCustomer(customerId, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
+
+    private static String etagOf(CustomerResponse customer) {
+        return CustomerVersion.of(customer).etag();
+    }
+
+    /**
+     * Starts a search page response. Its weak ETag is derived from
+     * {@code pageKey} (identifying the state of every customer on the page) plus
+     * the next-page cursor; Spring answers If-None-Match with 304 from it and
+     * skips writing the body.
+     */
+    private static ResponseEntity.BodyBuilder pageResponse(StringBuilder pageKey, String nextCursor) {
+        pageKey.append(';').append(nextCursor);
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex(pageKey.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(etag);
+        if (nextCursor != null) {
+            builder.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return builder;
+    }
+
+    /**
+     * Turns an If-Match header into the version a write must find, or
+     * {@code null} when there is no header or it is {@code *}. If-Match uses
+     * strong comparison, so a weak or foreign ETag can never match.
+     */
+    private static CustomerVersion expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        return CustomerVersion.parseETag(ifMatch).orElseThrow(() -> new PreconditionFailedException(
+                "If-Match " + ifMatch + " does not match the current ETag"));
+    }
+
+    /** How {@code POST /batch} treats customer IDs that already exist. */
+    public enum BatchConflictMode {
+        skip,
+        update
+    }
 }
@@ -0,0 +1,119 @@
+package com.customer.datasource;
+
+import com.customer.config.ConcurrencyLimitProperties;
+import com.customer.exception.ServiceOverloadedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounds how many connections are in use at once. With the limit set to the
+ * JDBC pool size, callers beyond it wait in a short, bounded FIFO queue and
+ * are then turned away, rather than each holding a thread while it times out
+ * waiting for the pool. This matters most with virtual threads, where the
+ * thread count itself no longer limits concurrency.
+ *
+ * <p>Only work that actually needs a connection is admitted here, so requests
+ * answered from the cache are never queued or shed, and a streaming export
+ * holds its slot only while it reads from the database. A caller that is
+ * turned away gets an {@link SQLTransientConnectionException} caused by a
+ * {@link ServiceOverloadedException}, reported as {@code 503} with
+ * {@code Retry-After}.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionLimitingDataSource.class);
+
+    private final ConcurrencyLimitProperties properties;
+    private final Semaphore permits;
+
+    public ConnectionLimitingDataSource(DataSource targetDataSource, ConcurrencyLimitProperties properties) {
+        super(targetDataSource);
+        this.properties = properties;
+        this.permits = new Semaphore(properties.maxConnections(), true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /** Closes the pool it wraps, since it takes that pool's place as the DataSource bean. */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        boolean acquired;
+        try {
+            // The timed form honours fairness: a free permit goes to the queued callers first, so a
+            // new arrival cannot barge past them
+            acquired = permits.tryAcquire(0, TimeUnit.MILLISECONDS)
+                    || (permits.getQueueLength() < properties.maxQueued()
+                        && permits.tryAcquire(properties.queueTimeout().toMillis(), TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            logger.warn("Rejecting connection request: {} connections in use, {} queued",
+                    properties.maxConnections(), permits.getQueueLength());
+            throw new SQLTransientConnectionException("Too many concurrent database requests", "08001",
+                    new ServiceOverloadedException("Too many concurrent requests, retry later",
+                            properties.retryAfter()));
+        }
+    }
+
+    /** Frees the slot when the connection is closed, however many times that happens. */
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,72 @@
+package com.customer.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * Hands out replica connections to read-only transactions and primary
+ * connections to everything else. If no replica is usable, or the chosen one
+ * cannot supply a connection, the read goes to the primary instead.
+ *
+ * <p>The transaction's read-only flag is only known once the transaction has
+ * started, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which defers fetching the connection until the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final ThreadLocal<Boolean> primaryReads = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final ReplicaHealthMonitor replicas;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaHealthMonitor replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    /**
+     * Runs {@code read} against the primary even inside a read-only
+     * transaction. For reads whose result outlives the request, such as cache
+     * fills, where a lagging replica's copy would otherwise be kept. Has to be
+     * called before the transaction's first statement; without replicas it
+     * simply runs {@code read}.
+     */
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        Boolean previous = primaryReads.get();
+        primaryReads.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            primaryReads.set(previous);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || primaryReads.get() != null) {
+            return primary.getConnection();
+        }
+        HikariDataSource replica = replicas.pick();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            replicas.markDown(replica, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+}
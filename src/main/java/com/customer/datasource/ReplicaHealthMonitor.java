@@ -0,0 +1,149 @@
+package com.customer.datasource;
+
+import com.customer.config.ReadReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.SmartLifecycle;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks which read replicas may serve reads. Every {@code checkInterval}
+ * each replica is asked for its replay lag; it is used only while that query
+ * succeeds and the lag is within {@code maxLag}. A replica whose connection
+ * fails during a read is taken out at once and comes back after its next
+ * successful check. Until the first check after startup no replica is used.
+ *
+ * <p>Reported under {@code /actuator/health}; the status is always UP because
+ * reads fall back to the primary, the details show each replica's state.
+ */
+public class ReplicaHealthMonitor implements SmartLifecycle, HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    private final List<Replica> replicas;
+    private final ReadReplicaProperties properties;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile ScheduledExecutorService executor;
+
+    public ReplicaHealthMonitor(List<HikariDataSource> replicaPools, ReadReplicaProperties properties) {
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.properties = properties;
+    }
+
+    /**
+     * @return a usable replica pool, round robin, or {@code null} when none is usable
+     */
+    HikariDataSource pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.usable) {
+                return replica.pool;
+            }
+        }
+        return null;
+    }
+
+    void markDown(HikariDataSource pool, SQLException cause) {
+        for (Replica replica : replicas) {
+            if (replica.pool == pool && replica.usable) {
+                replica.usable = false;
+                replica.status = "connection failed: " + cause.getMessage();
+                logger.warn("Read replica {} failed, reading from the primary until it recovers: {}",
+                        pool.getPoolName(), cause.getMessage());
+            }
+        }
+    }
+
+    private void checkAll() {
+        for (Replica replica : replicas) {
+            check(replica);
+        }
+    }
+
+    private void check(Replica replica) {
+        boolean wasUsable = replica.usable;
+        try (Connection connection = replica.pool.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(properties.lagQuery())) {
+            rs.next();
+            Duration lag = Duration.ofMillis(Math.round(rs.getDouble(1) * 1000));
+            replica.lag = lag;
+            replica.usable = lag.compareTo(properties.maxLag()) <= 0;
+            replica.status = replica.usable ? "in use" : "lagging";
+        } catch (SQLException e) {
+            replica.usable = false;
+            replica.status = "check failed: " + e.getMessage();
+        }
+        if (wasUsable != replica.usable) {
+            logger.info("Read replica {} is now {} (lag {})", replica.pool.getPoolName(), replica.status, replica.lag);
+        }
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            details.put(replica.pool.getPoolName(), Map.of("status", replica.status, "lag", replica.lag.toString()));
+        }
+        return Health.up().withDetails(details).build();
+    }
+
+    @Override
+    public void start() {
+        checkAll();
+        executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-health").daemon().factory());
+        long interval = properties.checkInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::checkAll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    /** Closes the replica pools; called by the container on shutdown. */
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.pool.close();
+        }
+    }
+
+    private static final class Replica {
+
+        final HikariDataSource pool;
+        volatile boolean usable;
+        volatile Duration lag = Duration.ZERO;
+        volatile String status = "not checked";
+
+        Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.customer.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch import: totals, throughput, and one result per submitted
+ * item in submission order.
+ */
+public record CustomerBatchResponse(
+    int received,
+    int succeeded,
+    int failed,
+    long durationMillis,
+    long rowsPerSecond,
+    List<ItemResult> results
+) {
+    public enum Status {
+        /** Inserted as a new customer. */
+        CREATED,
+        /** Inserted or, if the ID already existed, overwritten ({@code onConflict=update}). */
+        UPSERTED,
+        /** Skipped because the customer ID already exists ({@code onConflict=skip}). */
+        DUPLICATE,
+        /** Rejected by validation; see {@code errors}. */
+        INVALID
+    }
+
+    public record ItemResult(
+        int index,
+        String customerId,
+        Status status,
+        List<ErrorResponse.ValidationError> errors
+    ) {}
+}
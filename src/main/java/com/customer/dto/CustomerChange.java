@@ -0,0 +1,21 @@
+package com.customer.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the change feed. {@code customer} is the customer's current
+ * state for {@link Type#UPSERT} and {@code null} for {@link Type#DELETE}.
+ */
+public record CustomerChange(
+    Type type,
+    String customerId,
+    LocalDateTime changedAt,
+    CustomerResponse customer
+) {
+    public enum Type {
+        /** Created or updated; {@code changedAt} is the customer's {@code updatedAt}. */
+        UPSERT,
+        /** Deleted; {@code changedAt} is the time of the delete. */
+        DELETE
+    }
+}
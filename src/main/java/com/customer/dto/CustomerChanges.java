@@ -0,0 +1,16 @@
+package com.customer.dto;
+
+import java.util.List;
+
+/**
+ * One page of the change feed, oldest change first. {@code cursor} is the
+ * opaque position after the last change and is what the consumer stores and
+ * passes back as {@code since}; it is {@code null} only when nothing has
+ * changed yet. {@code hasMore} tells the consumer to ask again right away
+ * instead of waiting for its next poll.
+ */
+public record CustomerChanges(
+    List<CustomerChange> changes,
+    String cursor,
+    boolean hasMore
+) {}
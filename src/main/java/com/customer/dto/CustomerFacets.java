@@ -0,0 +1,21 @@
+package com.customer.dto;
+
+import java.util.List;
+
+/**
+ * Customer counts per country, region and city among the customers matching
+ * the request's filters. {@code total} is the number of matching customers;
+ * each list holds the most frequent values first, a {@code null} value
+ * counting the customers without one.
+ */
+public record CustomerFacets(
+    long total,
+    List<FacetCount> country,
+    List<FacetCount> region,
+    List<FacetCount> city
+) {
+    public record FacetCount(
+        String value,
+        long count
+    ) {}
+}
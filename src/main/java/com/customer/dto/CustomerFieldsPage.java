@@ -0,0 +1,14 @@
+package com.customer.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One keyset page of a sparse-fieldset search: each customer carries only the
+ * requested fields plus {@code customerId} and {@code version}.
+ * {@code nextCursor} works as in {@link CustomerPage}.
+ */
+public record CustomerFieldsPage(
+    List<Map<String, Object>> customers,
+    String nextCursor
+) {}
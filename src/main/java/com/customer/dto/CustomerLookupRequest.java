@@ -0,0 +1,13 @@
+package com.customer.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CustomerLookupRequest(
+    @NotEmpty(message = "At least one customer ID is required")
+    List<@NotBlank(message = "Customer ID is required")
+         @Size(min = 5, max = 5, message = "Customer ID must be exactly 5 characters") String> customerIds
+) {}
@@ -0,0 +1,12 @@
+package com.customer.dto;
+
+import java.util.List;
+
+/**
+ * Result of a lookup by IDs: the customers that exist, in the order their IDs
+ * were first requested, and the requested IDs that matched no customer.
+ */
+public record CustomerLookupResponse(
+    List<CustomerResponse> customers,
+    List<String> missingIds
+) {}
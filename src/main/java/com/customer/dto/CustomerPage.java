@@ -0,0 +1,12 @@
+package com.customer.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of search results. {@code nextCursor} is an opaque token
+ * to pass back as {@code cursor}, or {@code null} on the last page.
+ */
+public record CustomerPage(
+    List<CustomerResponse> customers,
+    String nextCursor
+) {}
@@ -0,0 +1,100 @@
+package com.customer.dto;
+
+import com.customer.exception.InvalidPatchException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A JSON Merge Patch (RFC 7396) for a customer. {@code changes} holds only the
+ * members present in the patch document; a {@code null} value clears the
+ * field and absent fields are left unchanged.
+ */
+public record CustomerPatch(Map<String, String> changes) {
+
+    /** Fields a patch may touch; customerId and the timestamps are not patchable. */
+    public static final Set<String> PATCHABLE_FIELDS = Set.of(
+            "companyName", "contactName", "contactTitle", "address", "city", "region",
+            "postalCode", "country", "phone", "fax", "contactEmail");
+
+    public CustomerPatch {
+        changes = Collections.unmodifiableMap(new LinkedHashMap<>(changes));
+    }
+
+    public static CustomerPatch fromJson(JsonNode document) {
+        if (document == null || !document.isObject()) {
+            throw new InvalidPatchException("Merge patch must be a JSON object");
+        }
+        Map<String, String> changes = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = document.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!PATCHABLE_FIELDS.contains(field.getKey())) {
+                throw new InvalidPatchException("Field '" + field.getKey() + "' cannot be patched");
+            }
+            JsonNode value = field.getValue();
+            if (!value.isNull() && !value.isTextual()) {
+                throw new InvalidPatchException("Field '" + field.getKey() + "' must be a string or null");
+            }
+            changes.put(field.getKey(), value.isNull() ? null : value.textValue());
+        }
+        return new CustomerPatch(changes);
+    }
+
+    /**
+     * @return {@code current} with this patch applied
+     */
+    public CustomerUpdateRequest applyTo(CustomerResponse current) {
+        return new CustomerUpdateRequest(
+                patched("companyName", current),
+                patched("contactName", current),
+                patched("contactTitle", current),
+                patched("address", current),
+                patched("city", current),
+                patched("region", current),
+                patched("postalCode", current),
+                patched("country", current),
+                patched("phone", current),
+                patched("fax", current),
+                patched("contactEmail", current));
+    }
+
+    /**
+     * @return the subset of {@link #changes()} whose value differs from {@code current}
+     */
+    public Map<String, String> changesFrom(CustomerResponse current) {
+        Map<String, String> effective = new LinkedHashMap<>();
+        changes.forEach((field, value) -> {
+            if (!Objects.equals(value, currentValue(field, current))) {
+                effective.put(field, value);
+            }
+        });
+        return effective;
+    }
+
+    private String patched(String field, CustomerResponse current) {
+        return changes.containsKey(field) ? changes.get(field) : currentValue(field, current);
+    }
+
+    private static String currentValue(String field, CustomerResponse current) {
+        return switch (field) {
+            case "companyName" -> current.companyName();
+            case "contactName" -> current.contactName();
+            case "contactTitle" -> current.contactTitle();
+            case "address" -> current.address();
+            case "city" -> current.city();
+            case "region" -> current.region();
+            case "postalCode" -> current.postalCode();
+            case "country" -> current.country();
+            case "phone" -> current.phone();
+            case "fax" -> current.fax();
+            case "contactEmail" -> current.contactEmail();
+            default -> throw new IllegalArgumentException("Unknown customer field " + field);
+        };
+    }
+}
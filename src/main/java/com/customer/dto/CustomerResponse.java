@@ -16,5 +16,6 @@ public record CustomerResponse(
     String fax,
     String contactEmail,
     LocalDateTime createdAt,
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+    long version
 ) {}
@@ -0,0 +1,24 @@
+package com.customer.dto;
+
+/**
+ * Filters for {@code GET /api/customers}, bound from query parameters. Every
+ * non-blank field is applied as a case-insensitive substring match and all of
+ * them are combined with AND; {@code phone} is matched on digits only.
+ */
+public record CustomerSearchCriteria(
+    String companyName,
+    String contactName,
+    String contactTitle,
+    String address,
+    String city,
+    String region,
+    String postalCode,
+    String country,
+    String phone,
+    String fax,
+    String contactEmail
+) {
+    public static CustomerSearchCriteria none() {
+        return new CustomerSearchCriteria(null, null, null, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.customer.dto;
+
+/**
+ * A ranked search result; {@code score} is between 0 and 1, higher is more relevant.
+ */
+public record CustomerSearchHit(
+    double score,
+    CustomerResponse customer
+) {}
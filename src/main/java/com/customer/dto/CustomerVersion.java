@@ -0,0 +1,65 @@
+package com.customer.dto;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Identifies one state of one customer: its {@code version} counter together
+ * with its creation time. The counter restarts at 0 when a customer is deleted
+ * and created again, so the creation time is what tells that customer apart
+ * from the earlier one with the same ID. Rendered as the strong ETag
+ * {@code "<version>-<created>"}, the creation time in base-36 microseconds.
+ */
+public record CustomerVersion(long version, LocalDateTime createdAt) {
+
+    public CustomerVersion {
+        // The database keeps microseconds
+        createdAt = Objects.requireNonNull(createdAt, "createdAt").truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public static CustomerVersion of(CustomerResponse customer) {
+        return new CustomerVersion(customer.version(), customer.createdAt());
+    }
+
+    public String etag() {
+        long micros = createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + createdAt.getNano() / 1_000;
+        return "\"" + version + "-" + Long.toString(micros, 36) + "\"";
+    }
+
+    /**
+     * Parses an ETag produced by {@link #etag()}.
+     *
+     * @return the version it names, or empty when it is weak or not one of ours
+     */
+    public static Optional<CustomerVersion> parseETag(String etag) {
+        String value = etag.trim();
+        if (value.length() < 5 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            return Optional.empty();
+        }
+        int dash = value.indexOf('-');
+        if (dash < 2) {
+            return Optional.empty();
+        }
+        try {
+            long version = Long.parseLong(value.substring(1, dash));
+            long micros = Long.parseLong(value.substring(dash + 1, value.length() - 1), 36);
+            if (version < 0 || micros < 0) {
+                return Optional.empty();
+            }
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(micros / 1_000_000,
+                    (int) (micros % 1_000_000) * 1_000, ZoneOffset.UTC);
+            return Optional.of(new CustomerVersion(version, createdAt));
+        } catch (NumberFormatException | DateTimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return etag();
+    }
+}
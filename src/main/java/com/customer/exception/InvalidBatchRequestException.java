@@ -0,0 +1,7 @@
+package com.customer.exception;
+
+public class InvalidBatchRequestException extends RuntimeException {
+    public InvalidBatchRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,81 @@
+package com.customer.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between
+ * {@link #start()} and {@link #stop()}. Registered as Hibernate's statement
+ * inspector; statements on threads that did not call {@code start()} are not
+ * counted unless passed on with {@link #add(int)}, and SQL sent through
+ * {@code JdbcTemplate} is not counted at all.
+ */
+@Component
+public class StatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private final ThreadLocal<int[]> count = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] current = count.get();
+        if (current != null) {
+            current[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        count.set(new int[1]);
+    }
+
+    /**
+     * Adds statements that ran elsewhere on this thread's behalf, such as a
+     * query shared with other requests on a loader thread. Ignored unless
+     * {@link #start()} was called on this thread.
+     */
+    public void add(int statements) {
+        int[] current = count.get();
+        if (current != null) {
+            current[0] += statements;
+        }
+    }
+
+    /**
+     * Runs {@code work} and returns the statements it prepared on this
+     * thread. They are kept out of any count already running here, which
+     * resumes afterwards.
+     */
+    public int countWhile(Runnable work) {
+        int[] outer = count.get();
+        int[] inner = new int[1];
+        count.set(inner);
+        try {
+            work.run();
+        } finally {
+            if (outer != null) {
+                count.set(outer);
+            } else {
+                count.remove();
+            }
+        }
+        return inner[0];
+    }
+
+    /**
+     * @return the statements counted since {@link #start()} on this thread
+     */
+    public int stop() {
+        int[] current = count.get();
+        count.remove();
+        return current != null ? current[0] : 0;
+    }
+}
@@ -2,6 +2,7 @@ package com.customer.model;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -9,12 +10,11 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "customer", indexes = {
-    @Index(name = "idx_company_name", columnList = "companyName"),
-    @Index(name = "idx_contact_name", columnList = "contactName"),
-    @Index(name = "idx_contact_email", columnList = "contactEmail"),
-    @Index(name = "idx_phone", columnList = "phone")
-})
+// Substring search indexes (pg_trgm GIN) are created in schema-postgresql.sql; plain B-tree
+// indexes cannot serve LIKE '%term%' and only slowed down writes. The updated_at index serves the
+// change feed's keyset seek.
+@Table(name = "customer",
+        indexes = @Index(name = "idx_customer_updated_at", columnList = "updated_at, customer_id"))
 public class Customer {
 
     @Id
@@ -60,6 +60,10 @@ public class Customer {
     @Size(max = 24, message = "Phone must not exceed 24 characters")
     private String phone;
 
+    // Digits-only copy of phone, kept in sync by setPhone, so phone search ignores punctuation
+    @Column(name = "phone_digits", length = 24)
+    private String phoneDigits;
+
     @Column(name = "fax", length = 24)
     @Size(max = 24, message = "Fax must not exceed 24 characters")
     private String fax;
@@ -77,6 +81,12 @@ public class Customer {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Bumped by every write; exposed as the ETag. The default lets plain SQL inserts omit it.
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+
     // Constructors
     public Customer() {
     }
@@ -165,6 +175,28 @@ public class Customer {
 
     public void setPhone(String phone) {
         this.phone = phone;
+        this.phoneDigits = digitsOf(phone);
+    }
+
+    public String getPhoneDigits() {
+        return phoneDigits;
+    }
+
+    /**
+     * Strips everything but ASCII digits, e.g. {@code "(5) 555-4729"} becomes {@code "55554729"}.
+     */
+    public static String digitsOf(String value) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
     }
 
     public String getFax() {
@@ -191,6 +223,10 @@ public class Customer {
         return updatedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
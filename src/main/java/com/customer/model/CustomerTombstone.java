@@ -0,0 +1,38 @@
+package com.customer.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records that a customer was deleted, so the change feed can report deletes
+ * of rows that no longer exist. One row per customer ID, holding the time of
+ * its latest delete.
+ */
+@Entity
+@Table(name = "customer_tombstone",
+        indexes = @Index(name = "idx_customer_tombstone_deleted_at", columnList = "deleted_at, customer_id"))
+public class CustomerTombstone {
+
+    @Id
+    @Column(name = "customer_id", length = 5, nullable = false)
+    private String customerId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    protected CustomerTombstone() {
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+}
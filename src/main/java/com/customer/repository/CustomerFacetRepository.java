@@ -0,0 +1,118 @@
+package com.customer.repository;
+
+import com.customer.dto.CustomerFacets;
+import com.customer.dto.CustomerFacets.FacetCount;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and compacts the location counts kept by the triggers in
+ * {@code schema-postgresql.sql}. A location's count is its row in
+ * {@code customer_location_count} plus its rows in
+ * {@code customer_location_delta}, so the counts are exact as of the reading
+ * transaction whether or not the deltas have been compacted yet.
+ */
+@Repository
+public class CustomerFacetRepository {
+
+    // GROUPING(country, region, city) of each grouping set
+    private static final int BY_COUNTRY = 0b011;
+    private static final int BY_REGION = 0b101;
+    private static final int BY_CITY = 0b110;
+    private static final int TOTAL = 0b111;
+
+    private static final String FACETS = """
+            WITH counts AS (
+                SELECT country, region, city, customer_count AS n FROM customer_location_count
+                UNION ALL
+                SELECT country, region, city, delta FROM customer_location_delta
+            )
+            SELECT facet, value, n FROM (
+                SELECT GROUPING(country, region, city) AS facet,
+                       COALESCE(country, region, city) AS value,
+                       sum(n) AS n,
+                       row_number() OVER (PARTITION BY GROUPING(country, region, city)
+                                          ORDER BY sum(n) DESC, COALESCE(country, region, city)) AS rank
+                FROM counts
+                WHERE %s
+                GROUP BY GROUPING SETS ((country), (region), (city), ())
+                HAVING sum(n) <> 0
+            ) facets
+            WHERE rank <= ?
+            ORDER BY facet, rank""";
+
+    private static final String COMPACT = """
+            WITH moved AS (
+                DELETE FROM customer_location_delta RETURNING country, region, city, delta
+            )
+            INSERT INTO customer_location_count AS c (country, region, city, customer_count)
+            SELECT country, region, city, sum(delta) FROM moved GROUP BY country, region, city
+            ORDER BY country, region, city
+            ON CONFLICT ON CONSTRAINT uk_customer_location_count
+            DO UPDATE SET customer_count = c.customer_count + EXCLUDED.customer_count""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomerFacetRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Counts the customers matching the given locations ({@code null} matches
+     * any) per country, region and city, each facet cut to its {@code limit}
+     * most frequent values.
+     */
+    public CustomerFacets countByLocation(String country, String region, String city, int limit) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        addFilter(conditions, args, "country", country);
+        addFilter(conditions, args, "region", region);
+        addFilter(conditions, args, "city", city);
+        args.add(limit);
+        String where = conditions.isEmpty() ? "TRUE" : String.join(" AND ", conditions);
+
+        long[] total = new long[1];
+        List<FacetCount> countries = new ArrayList<>();
+        List<FacetCount> regions = new ArrayList<>();
+        List<FacetCount> cities = new ArrayList<>();
+        jdbcTemplate.query(FACETS.formatted(where), rs -> {
+            FacetCount count = new FacetCount(rs.getString("value"), rs.getLong("n"));
+            switch (rs.getInt("facet")) {
+                case BY_COUNTRY -> countries.add(count);
+                case BY_REGION -> regions.add(count);
+                case BY_CITY -> cities.add(count);
+                case TOTAL -> total[0] = count.count();
+                default -> throw new IllegalStateException("Unexpected grouping " + rs.getInt("facet"));
+            }
+        }, args.toArray());
+        return new CustomerFacets(total[0], countries, regions, cities);
+    }
+
+    private static void addFilter(List<String> conditions, List<Object> args, String column, String value) {
+        if (value != null) {
+            conditions.add(column + " = ?");
+            args.add(value);
+        }
+    }
+
+    /**
+     * Folds the committed deltas into the location counts and drops locations
+     * left without customers. Skipped, returning {@code false}, while another
+     * instance is compacting. Must run in a read-write transaction.
+     *
+     * @return whether this call compacted
+     */
+    public boolean compact() {
+        Boolean locked = jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('customer_location_count'))", Boolean.class);
+        if (!Boolean.TRUE.equals(locked)) {
+            return false;
+        }
+        jdbcTemplate.update(COMPACT);
+        jdbcTemplate.update("DELETE FROM customer_location_count WHERE customer_count = 0");
+        return true;
+    }
+}
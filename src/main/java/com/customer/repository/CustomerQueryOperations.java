@@ -0,0 +1,37 @@
+package com.customer.repository;
+
+import com.customer.dto.CustomerResponse;
+import com.customer.model.Customer;
+import jakarta.persistence.Tuple;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read queries that select columns straight into the result instead of
+ * loading {@link Customer} entities: nothing is added to the persistence
+ * context, so there are no entity instances, snapshots or dirty checks for
+ * data that is only read.
+ */
+public interface CustomerQueryOperations {
+
+    /** Customer attributes that make up a {@link CustomerResponse}, in constructor order. */
+    List<String> RESPONSE_ATTRIBUTES = Arrays.stream(CustomerResponse.class.getRecordComponents())
+            .map(RecordComponent::getName)
+            .toList();
+
+    /**
+     * Runs {@code spec} (filters and ORDER BY) as
+     * {@code select new CustomerResponse(...)}.
+     */
+    List<CustomerResponse> findResponses(Specification<Customer> spec, int limit);
+
+    /**
+     * Runs {@code spec} selecting only {@code attributes}; each is available
+     * in the returned tuples under its attribute name.
+     */
+    List<Tuple> findAttributes(Specification<Customer> spec, Collection<String> attributes, int limit);
+}
@@ -0,0 +1,55 @@
+package com.customer.repository;
+
+import com.customer.dto.CustomerResponse;
+import com.customer.model.Customer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+class CustomerQueryOperationsImpl implements CustomerQueryOperations {
+
+    private final EntityManager entityManager;
+
+    CustomerQueryOperationsImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<CustomerResponse> findResponses(Specification<Customer> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CustomerResponse> query = cb.createQuery(CustomerResponse.class);
+        Root<Customer> root = query.from(Customer.class);
+        query.select(cb.construct(CustomerResponse.class, RESPONSE_ATTRIBUTES.stream()
+                .map(root::get)
+                .toArray(Selection[]::new)));
+        return entityManager.createQuery(where(query, root, cb, spec)).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Tuple> findAttributes(Specification<Customer> spec, Collection<String> attributes, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Customer> root = query.from(Customer.class);
+        query.multiselect(attributes.stream()
+                .map(attribute -> root.get(attribute).alias(attribute))
+                .toArray(Selection[]::new));
+        return entityManager.createQuery(where(query, root, cb, spec)).setMaxResults(limit).getResultList();
+    }
+
+    private static <T> CriteriaQuery<T> where(CriteriaQuery<T> query, Root<Customer> root, CriteriaBuilder cb,
+                                              Specification<Customer> spec) {
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return query;
+    }
+}
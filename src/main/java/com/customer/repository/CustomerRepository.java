@@ -1,19 +1,90 @@
 package com.customer.repository;
 
+import com.customer.dto.CustomerVersion;
 import com.customer.model.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, String> {
+public interface CustomerRepository extends JpaRepository<Customer, String>, JpaSpecificationExecutor<Customer>,
+        CustomerWriteOperations, CustomerQueryOperations {
 
-    List<Customer> findByCompanyNameContainingIgnoreCase(String companyName);
+    /**
+     * Deletes the customer and records the delete as a tombstone for the change
+     * feed, in a single statement; unlike {@code deleteById} the entity is not
+     * loaded first. A tombstone left by an earlier delete of the same ID gets
+     * the new time.
+     *
+     * @return the number of rows deleted, 0 if no customer has that ID
+     */
+    @Modifying
+    @Query(value = """
+            with deleted as (
+                delete from customer where customer_id = :customerId returning customer_id)
+            insert into customer_tombstone (customer_id, deleted_at)
+            select customer_id, :deletedAt from deleted
+            on conflict (customer_id) do update set deleted_at = excluded.deleted_at""", nativeQuery = true)
+    int deleteWithTombstone(@Param("customerId") String customerId, @Param("deletedAt") LocalDateTime deletedAt);
 
-    List<Customer> findByContactNameContainingIgnoreCase(String contactName);
+    /**
+     * Like {@link #deleteWithTombstone(String, LocalDateTime)} but only while
+     * the row is still at {@code version} of the customer created at
+     * {@code createdAt}.
+     *
+     * @return the number of rows deleted, 0 if no customer has that ID and version
+     */
+    @Modifying
+    @Query(value = """
+            with deleted as (
+                delete from customer
+                where customer_id = :customerId and version = :version and created_at = :createdAt
+                returning customer_id)
+            insert into customer_tombstone (customer_id, deleted_at)
+            select customer_id, :deletedAt from deleted
+            on conflict (customer_id) do update set deleted_at = excluded.deleted_at""", nativeQuery = true)
+    int deleteWithTombstone(@Param("customerId") String customerId, @Param("version") long version,
+                            @Param("createdAt") LocalDateTime createdAt, @Param("deletedAt") LocalDateTime deletedAt);
 
-    List<Customer> findByContactEmailContainingIgnoreCase(String contactEmail);
+    /**
+     * Reads just the version and creation time, enough to answer a conditional
+     * request.
+     */
+    @Query("select new com.customer.dto.CustomerVersion(c.version, c.createdAt) from Customer c "
+            + "where c.customerId = :customerId")
+    Optional<CustomerVersion> findVersionById(@Param("customerId") String customerId);
 
-    List<Customer> findByPhoneContaining(String phone);
+    /**
+     * Loads every customer whose ID is in {@code customerIds} with one
+     * {@code customer_id = ANY(?)} query. The IDs are bound as a single array
+     * parameter, so the SQL text is the same for any number of IDs and
+     * PostgreSQL can reuse one prepared statement.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "select * from customer where customer_id = any(cast(:customerIds as varchar[]))",
+            nativeQuery = true)
+    List<Customer> findAllByIdArray(@Param("customerIds") String[] customerIds);
+
+    /**
+     * Streams the whole table over a server-side cursor. Must be consumed
+     * inside a transaction; rows are fetched from the database in chunks of
+     * the configured fetch size rather than all at once.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Customer c order by c.customerId")
+    Stream<Customer> streamAll();
 }
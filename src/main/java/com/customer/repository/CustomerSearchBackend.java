@@ -0,0 +1,32 @@
+package com.customer.repository;
+
+import com.customer.model.Customer;
+
+import java.util.List;
+
+/**
+ * Relevance-ranked free-text search over company name, contact name, contact
+ * email and (digits-only) phone. Selected with {@code customer.search.backend}.
+ */
+public interface CustomerSearchBackend {
+
+    /**
+     * @param term  search term, already trimmed and non-blank
+     * @param limit maximum number of hits to return
+     * @return hits ordered by descending score, ties broken by customer ID
+     */
+    List<ScoredCustomer> search(String term, int limit);
+
+    /**
+     * A matching customer and its relevance score between 0 and 1.
+     */
+    record ScoredCustomer(Customer customer, double score) {}
+
+    /**
+     * Escapes LIKE wildcards so user input is matched literally (escape character is backslash).
+     */
+    static String likeContains(String value) {
+        String escaped = value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
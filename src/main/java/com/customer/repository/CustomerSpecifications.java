@@ -0,0 +1,121 @@
+package com.customer.repository;
+
+import com.customer.dto.CustomerSearchCriteria;
+import com.customer.model.Customer;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds the single SQL statement behind {@code GET /api/customers}: every
+ * filter, the keyset seek predicate and the ORDER BY are pushed into one query.
+ * Also the customer half of {@code GET /api/customers/changes}.
+ */
+public final class CustomerSpecifications {
+
+    private CustomerSpecifications() {
+    }
+
+    /**
+     * ANDs together a substring match for every non-blank criterion. Text
+     * columns compare on {@code upper(col)} so the pg_trgm indexes apply.
+     */
+    public static Specification<Customer> matching(CustomerSearchCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addContains(predicates, root, cb, "companyName", criteria.companyName());
+            addContains(predicates, root, cb, "contactName", criteria.contactName());
+            addContains(predicates, root, cb, "contactTitle", criteria.contactTitle());
+            addContains(predicates, root, cb, "address", criteria.address());
+            addContains(predicates, root, cb, "city", criteria.city());
+            addContains(predicates, root, cb, "region", criteria.region());
+            addContains(predicates, root, cb, "postalCode", criteria.postalCode());
+            addContains(predicates, root, cb, "country", criteria.country());
+            addContains(predicates, root, cb, "fax", criteria.fax());
+            addContains(predicates, root, cb, "contactEmail", criteria.contactEmail());
+            if (isPresent(criteria.phone())) {
+                String digits = Customer.digitsOf(criteria.phone());
+                // A phone filter without any digits cannot match a digits-only column
+                predicates.add(digits.isEmpty()
+                        ? cb.disjunction()
+                        : cb.like(root.get("phoneDigits"), CustomerSearchBackend.likeContains(digits), '\\'));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Orders by {@code attribute} then customerId, and when a previous page
+     * ended at ({@code afterValue}, {@code afterCustomerId}) seeks past it.
+     * Nullable columns are compared as empty strings so the seek predicate and
+     * the ORDER BY agree on where NULLs sort.
+     *
+     * @param afterCustomerId last customer ID of the previous page, or {@code null} for the first page
+     */
+    public static Specification<Customer> keyset(String attribute, boolean descending,
+                                                 String afterValue, String afterCustomerId) {
+        return (root, query, cb) -> {
+            Expression<String> id = root.get("customerId");
+            Expression<String> key = "customerId".equals(attribute)
+                    ? id
+                    : cb.coalesce(root.<String>get(attribute), "");
+
+            // Skip ordering for count queries
+            if (!Long.class.equals(query.getResultType())) {
+                query.orderBy(descending
+                        ? List.of(cb.desc(key), cb.desc(id))
+                        : List.of(cb.asc(key), cb.asc(id)));
+            }
+
+            if (afterCustomerId == null) {
+                return null;
+            }
+            if (key == id) {
+                return descending ? cb.lessThan(id, afterCustomerId) : cb.greaterThan(id, afterCustomerId);
+            }
+            Predicate pastKey = descending ? cb.lessThan(key, afterValue) : cb.greaterThan(key, afterValue);
+            Predicate pastId = descending ? cb.lessThan(id, afterCustomerId) : cb.greaterThan(id, afterCustomerId);
+            return cb.or(pastKey, cb.and(cb.equal(key, afterValue), pastId));
+        };
+    }
+
+    /**
+     * Customers written after the position ({@code afterUpdatedAt},
+     * {@code afterCustomerId}) and before {@code before}, in (updated_at,
+     * customer_id) order; the change feed query, served by the
+     * (updated_at, customer_id) index.
+     */
+    public static Specification<Customer> changedBetween(LocalDateTime afterUpdatedAt, String afterCustomerId,
+                                                         LocalDateTime before) {
+        return (root, query, cb) -> {
+            Expression<LocalDateTime> updatedAt = root.get("updatedAt");
+            Expression<String> id = root.get("customerId");
+            query.orderBy(cb.asc(updatedAt), cb.asc(id));
+            // The redundant >= gives the index scan a start key; the OR alone is only applied as a filter
+            return cb.and(
+                    cb.greaterThanOrEqualTo(updatedAt, afterUpdatedAt),
+                    cb.or(cb.greaterThan(updatedAt, afterUpdatedAt),
+                            cb.and(cb.equal(updatedAt, afterUpdatedAt), cb.greaterThan(id, afterCustomerId))),
+                    cb.lessThan(updatedAt, before));
+        };
+    }
+
+    private static void addContains(List<Predicate> predicates, Root<Customer> root, CriteriaBuilder cb,
+                                    String attribute, String value) {
+        if (isPresent(value)) {
+            String pattern = CustomerSearchBackend.likeContains(value.trim().toUpperCase(Locale.ROOT));
+            predicates.add(cb.like(cb.upper(root.get(attribute)), pattern, '\\'));
+        }
+    }
+
+    private static boolean isPresent(String value) {
+        return value != null && !value.isBlank();
+    }
+}
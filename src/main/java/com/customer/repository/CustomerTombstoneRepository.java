@@ -0,0 +1,33 @@
+package com.customer.repository;
+
+import com.customer.model.CustomerTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CustomerTombstoneRepository extends JpaRepository<CustomerTombstone, String> {
+
+    /**
+     * Tombstones after the position ({@code afterDeletedAt}, {@code afterCustomerId})
+     * and before {@code before}, in (deleted_at, customer_id) order. Served by
+     * the (deleted_at, customer_id) index; the redundant {@code >=} gives the
+     * index scan its start key.
+     */
+    @Query("""
+            select t from CustomerTombstone t
+            where t.deletedAt >= :afterDeletedAt
+              and (t.deletedAt > :afterDeletedAt
+                   or (t.deletedAt = :afterDeletedAt and t.customerId > :afterCustomerId))
+              and t.deletedAt < :before
+            order by t.deletedAt, t.customerId""")
+    List<CustomerTombstone> findDeletedBetween(@Param("afterDeletedAt") LocalDateTime afterDeletedAt,
+                                               @Param("afterCustomerId") String afterCustomerId,
+                                               @Param("before") LocalDateTime before,
+                                               Limit limit);
+}
@@ -0,0 +1,46 @@
+package com.customer.repository;
+
+import com.customer.dto.CustomerVersion;
+import com.customer.model.Customer;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Single-statement writes that {@link org.springframework.data.jpa.repository.JpaRepository#save}
+ * cannot offer for an entity with an assigned ID: {@code save} has to SELECT
+ * the row first to decide between persist and merge.
+ */
+public interface CustomerWriteOperations {
+
+    /**
+     * Issues the INSERT immediately, without a preceding SELECT.
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException if the customer ID already exists
+     */
+    void insert(Customer customer);
+
+    /**
+     * Overwrites every updatable column of the row with {@code customer}'s
+     * customer ID and returns the row as stored, in one
+     * {@code UPDATE ... RETURNING} statement. The version is incremented.
+     *
+     * @param expected if not {@code null}, the row is only updated while it is still at this version
+     * @return the updated customer, or empty if no row has that ID (and version)
+     */
+    Optional<Customer> updateReturning(Customer customer, CustomerVersion expected);
+
+    /**
+     * Updates only the given columns, keyed by entity attribute name (plus
+     * {@code updated_at}, and {@code phone_digits} when phone changes), in one
+     * {@code UPDATE ... RETURNING} statement. The version is incremented.
+     * A row that already holds every given value is left alone, so a no-op
+     * never bumps the version or reaches the change feed.
+     *
+     * @param changes  at least one column
+     * @param expected if not {@code null}, the row is only updated while it is still at this version
+     * @return the updated customer, or empty if no row has that ID (and version) or nothing would change
+     */
+    Optional<Customer> updateColumnsReturning(String customerId, Map<String, String> changes,
+                                              CustomerVersion expected);
+}
@@ -0,0 +1,120 @@
+package com.customer.repository;
+
+import com.customer.dto.CustomerVersion;
+import com.customer.model.Customer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+class CustomerWriteOperationsImpl implements CustomerWriteOperations {
+
+    private static final String UPDATE_ALL = """
+            UPDATE customer
+               SET company_name = :companyName, contact_name = :contactName, contact_title = :contactTitle,
+                   address = :address, city = :city, region = :region, postal_code = :postalCode,
+                   country = :country, phone = :phone, phone_digits = :phoneDigits, fax = :fax,
+                   contact_email = :contactEmail, updated_at = :updatedAt, version = version + 1
+             WHERE customer_id = :customerId""";
+
+    // The creation time tells a re-created customer from the deleted one whose version it repeats
+    private static final String VERSION_MATCHES =
+            " AND version = :expectedVersion AND created_at = :expectedCreatedAt";
+
+    private static final String RETURNING = " RETURNING *";
+
+    private static final Map<String, String> COLUMNS = Map.ofEntries(
+            Map.entry("companyName", "company_name"),
+            Map.entry("contactName", "contact_name"),
+            Map.entry("contactTitle", "contact_title"),
+            Map.entry("address", "address"),
+            Map.entry("city", "city"),
+            Map.entry("region", "region"),
+            Map.entry("postalCode", "postal_code"),
+            Map.entry("country", "country"),
+            Map.entry("phone", "phone"),
+            Map.entry("fax", "fax"),
+            Map.entry("contactEmail", "contact_email"));
+
+    private final EntityManager entityManager;
+
+    CustomerWriteOperationsImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void insert(Customer customer) {
+        entityManager.persist(customer);
+        // Flush now so a duplicate key surfaces here rather than at commit
+        entityManager.flush();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Customer> updateReturning(Customer customer, CustomerVersion expected) {
+        String sql = UPDATE_ALL + (expected != null ? VERSION_MATCHES : "") + RETURNING;
+        Query query = entityManager.createNativeQuery(sql, Customer.class)
+                .setParameter("customerId", customer.getCustomerId())
+                .setParameter("companyName", customer.getCompanyName())
+                .setParameter("contactName", customer.getContactName())
+                .setParameter("contactTitle", customer.getContactTitle())
+                .setParameter("address", customer.getAddress())
+                .setParameter("city", customer.getCity())
+                .setParameter("region", customer.getRegion())
+                .setParameter("postalCode", customer.getPostalCode())
+                .setParameter("country", customer.getCountry())
+                .setParameter("phone", customer.getPhone())
+                .setParameter("phoneDigits", customer.getPhoneDigits())
+                .setParameter("fax", customer.getFax())
+                .setParameter("contactEmail", customer.getContactEmail())
+                .setParameter("updatedAt", LocalDateTime.now());
+        if (expected != null) {
+            query.setParameter("expectedVersion", expected.version());
+            query.setParameter("expectedCreatedAt", expected.createdAt());
+        }
+        List<Customer> rows = query.getResultList();
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Customer> updateColumnsReturning(String customerId, Map<String, String> changes,
+                                                     CustomerVersion expected) {
+        StringBuilder sql = new StringBuilder("UPDATE customer SET updated_at = :updatedAt, version = version + 1");
+        StringJoiner changed = new StringJoiner(" OR ", " AND (", ")");
+        for (String attribute : changes.keySet()) {
+            String column = COLUMNS.get(attribute);
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown customer attribute " + attribute);
+            }
+            sql.append(", ").append(column).append(" = :").append(attribute);
+            changed.add(column + " IS DISTINCT FROM :" + attribute);
+        }
+        if (changes.containsKey("phone")) {
+            sql.append(", phone_digits = :phoneDigits");
+        }
+        sql.append(" WHERE customer_id = :customerId").append(changed);
+        if (expected != null) {
+            sql.append(VERSION_MATCHES);
+        }
+        sql.append(RETURNING);
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Customer.class)
+                .setParameter("customerId", customerId)
+                .setParameter("updatedAt", LocalDateTime.now());
+        changes.forEach(query::setParameter);
+        if (changes.containsKey("phone")) {
+            query.setParameter("phoneDigits", Customer.digitsOf(changes.get("phone")));
+        }
+        if (expected != null) {
+            query.setParameter("expectedVersion", expected.version());
+            query.setParameter("expectedCreatedAt", expected.createdAt());
+        }
+        List<Customer> rows = query.getResultList();
+        return rows.stream().findFirst();
+    }
+}
@@ -0,0 +1,62 @@
+package com.customer.repository;
+
+import com.customer.model.Customer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Portable JPQL fallback for databases without pg_trgm (e.g. H2). Matches on
+ * case-insensitive substring and ranks in three tiers: exact match, prefix
+ * match, then any other substring match.
+ */
+@Repository
+@ConditionalOnProperty(name = "customer.search.backend", havingValue = "like", matchIfMissing = true)
+public class LikeCustomerSearchBackend implements CustomerSearchBackend {
+
+    private static final String TEXT_MATCH = """
+            upper(c.companyName) like :pattern escape '\\'
+               or upper(c.contactName) like :pattern escape '\\'
+               or upper(c.contactEmail) like :pattern escape '\\'""";
+
+    private static final String SCORE = """
+            case when upper(c.companyName) = :term or upper(c.contactName) = :term or upper(c.contactEmail) = :term then 1.0
+                 when upper(c.companyName) like :prefix escape '\\' or upper(c.contactName) like :prefix escape '\\'
+                      or upper(c.contactEmail) like :prefix escape '\\' then 0.75
+                 else 0.5 end""";
+
+    private final EntityManager entityManager;
+
+    public LikeCustomerSearchBackend(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<ScoredCustomer> search(String term, int limit) {
+        String normalized = term.toUpperCase(Locale.ROOT);
+        String digits = Customer.digitsOf(term);
+        boolean matchPhone = !digits.isEmpty();
+
+        String where = matchPhone ? TEXT_MATCH + " or c.phoneDigits like :digitsPattern escape '\\'" : TEXT_MATCH;
+        String jpql = "select c, " + SCORE + " as score from Customer c where " + where
+                + " order by score desc, c.customerId";
+
+        String contains = CustomerSearchBackend.likeContains(normalized);
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class)
+                .setParameter("term", normalized)
+                .setParameter("pattern", contains)
+                .setParameter("prefix", contains.substring(1))
+                .setMaxResults(limit);
+        if (matchPhone) {
+            query.setParameter("digitsPattern", CustomerSearchBackend.likeContains(digits));
+        }
+
+        return query.getResultList().stream()
+                .map(row -> new ScoredCustomer((Customer) row[0], ((Number) row[1]).doubleValue()))
+                .toList();
+    }
+}
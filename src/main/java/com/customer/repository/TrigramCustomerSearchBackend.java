@@ -0,0 +1,69 @@
+package com.customer.repository;
+
+import com.customer.model.Customer;
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * PostgreSQL search backed by the pg_trgm GIN indexes from schema-postgresql.sql.
+ * Rows match on substring ({@code LIKE}) or trigram similarity ({@code %}), both
+ * of which the indexes serve, and are ranked by the best {@code similarity()}
+ * across the searched columns.
+ */
+@Repository
+@ConditionalOnProperty(name = "customer.search.backend", havingValue = "trigram")
+public class TrigramCustomerSearchBackend implements CustomerSearchBackend {
+
+    private static final String TEXT_MATCH = """
+            upper(c.company_name) LIKE :pattern OR upper(c.company_name) % :term
+               OR upper(c.contact_name) LIKE :pattern OR upper(c.contact_name) % :term
+               OR upper(c.contact_email) LIKE :pattern""";
+
+    private static final String TEXT_SCORE = """
+            greatest(similarity(upper(c.company_name), :term),
+                     coalesce(similarity(upper(c.contact_name), :term), 0),
+                     coalesce(similarity(upper(c.contact_email), :term), 0))""";
+
+    private final EntityManager entityManager;
+
+    public TrigramCustomerSearchBackend(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ScoredCustomer> search(String term, int limit) {
+        String normalized = term.toUpperCase(Locale.ROOT);
+        String digits = Customer.digitsOf(term);
+        boolean matchPhone = !digits.isEmpty();
+
+        String where = matchPhone ? TEXT_MATCH + " OR c.phone_digits LIKE :digitsPattern" : TEXT_MATCH;
+        String score = matchPhone
+                ? "greatest(" + TEXT_SCORE + ", coalesce(similarity(c.phone_digits, :digits), 0))"
+                : TEXT_SCORE;
+        String sql = "SELECT c.*, " + score + " AS score FROM customer c WHERE " + where
+                + " ORDER BY score DESC, c.customer_id LIMIT :limit";
+
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addEntity("c", Customer.class)
+                .addScalar("score", StandardBasicTypes.DOUBLE);
+        query.setParameter("term", normalized);
+        query.setParameter("pattern", CustomerSearchBackend.likeContains(normalized));
+        query.setParameter("limit", limit);
+        if (matchPhone) {
+            query.setParameter("digits", digits);
+            query.setParameter("digitsPattern", CustomerSearchBackend.likeContains(digits));
+        }
+
+        return query.getResultList().stream()
+                .map(row -> new ScoredCustomer((Customer) row[0], ((Number) row[1]).doubleValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,48 @@
+package com.customer.search;
+
+import com.customer.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination. The token wraps the sort
+ * the page was produced with plus the sort value and customer ID of the last
+ * row, so the next query can seek past it with {@code (key, customer_id) > (?, ?)}
+ * instead of an OFFSET. The servlet and reactive applications share this
+ * format, so a cursor issued by either can be passed to the other.
+ */
+public record SearchCursor(String sort, String value, String customerId) {
+
+    private static final String PREFIX = "c2";
+    private static final char SEPARATOR = '\u001F';
+
+    public String encode() {
+        String raw = PREFIX + SEPARATOR + sort + SEPARATOR + value + SEPARATOR + customerId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param sort the sort of the current request; a cursor issued for a different sort is rejected
+     * @return the decoded cursor, or {@code null} when no cursor was supplied
+     */
+    public static SearchCursor decode(String cursor, String sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(String.valueOf(SEPARATOR), -1);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+        if (parts.length != 4 || !PREFIX.equals(parts[0])) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+        if (!parts[1].equals(sort)) {
+            throw new InvalidCursorException("Cursor was issued for sort '" + parts[1] + "', not '" + sort + "'");
+        }
+        return new SearchCursor(parts[1], parts[2], parts[3]);
+    }
+}
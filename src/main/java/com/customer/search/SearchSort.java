@@ -0,0 +1,67 @@
+package com.customer.search;
+
+import com.customer.dto.CustomerResponse;
+import com.customer.exception.InvalidSearchRequestException;
+
+import java.util.List;
+
+/**
+ * Parsed {@code sort} parameter in Spring's {@code property[,asc|desc]} form.
+ * Shared by the servlet and reactive applications, which must agree on it for
+ * their cursors to be interchangeable.
+ */
+public record SearchSort(String attribute, boolean descending) {
+
+    /** Attributes a search may be sorted by; customerId is always the tie-breaker. */
+    public static final List<String> SORTABLE_ATTRIBUTES = List.of(
+            "customerId", "companyName", "contactName", "contactTitle", "city",
+            "region", "postalCode", "country", "contactEmail");
+
+    public static final SearchSort DEFAULT = new SearchSort("customerId", false);
+
+    public static SearchSort parse(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return DEFAULT;
+        }
+        String[] parts = sort.split(",");
+        String attribute = parts[0].trim();
+        if (parts.length > 2 || !SORTABLE_ATTRIBUTES.contains(attribute)) {
+            throw new InvalidSearchRequestException("Invalid sort '" + sort + "'; sortable fields are "
+                    + SORTABLE_ATTRIBUTES);
+        }
+        if (parts.length == 1 || parts[1].trim().equalsIgnoreCase("asc")) {
+            return new SearchSort(attribute, false);
+        }
+        if (parts[1].trim().equalsIgnoreCase("desc")) {
+            return new SearchSort(attribute, true);
+        }
+        throw new InvalidSearchRequestException("Invalid sort direction in '" + sort + "'; use asc or desc");
+    }
+
+    /** The sort key of {@code customer}. */
+    public String keyOf(CustomerResponse customer) {
+        return key(switch (attribute) {
+            case "customerId" -> customer.customerId();
+            case "companyName" -> customer.companyName();
+            case "contactName" -> customer.contactName();
+            case "contactTitle" -> customer.contactTitle();
+            case "city" -> customer.city();
+            case "region" -> customer.region();
+            case "postalCode" -> customer.postalCode();
+            case "country" -> customer.country();
+            case "contactEmail" -> customer.contactEmail();
+            default -> throw new IllegalStateException("Unsortable attribute " + attribute);
+        });
+    }
+
+    /** A sort value as the keyset queries compare it, with NULL read as an empty string. */
+    public static String key(String value) {
+        return value != null ? value : "";
+    }
+
+    /** Canonical form recorded in cursors, e.g. {@code companyName,desc}. */
+    @Override
+    public String toString() {
+        return attribute + (descending ? ",desc" : ",asc");
+    }
+}
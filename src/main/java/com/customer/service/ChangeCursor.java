@@ -0,0 +1,46 @@
+package com.customer.service;
+
+import com.customer.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque position in the change feed: the time and customer ID of the last
+ * change handed out. The next read seeks past it with
+ * {@code (changed_at, customer_id) > (?, ?)}.
+ */
+record ChangeCursor(LocalDateTime changedAt, String customerId) {
+
+    /** Position before every change, used when the consumer has no cursor yet. */
+    static final ChangeCursor START = new ChangeCursor(LocalDateTime.of(1970, 1, 1, 0, 0), "");
+
+    private static final String PREFIX = "f1";
+    private static final char SEPARATOR = '\u001F';
+
+    String encode() {
+        String raw = PREFIX + SEPARATOR + changedAt + SEPARATOR + customerId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or {@link #START} when no cursor was supplied
+     */
+    static ChangeCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(String.valueOf(SEPARATOR), -1);
+            if (parts.length == 3 && PREFIX.equals(parts[0])) {
+                return new ChangeCursor(LocalDateTime.parse(parts[1]), parts[2]);
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // reported below
+        }
+        throw new InvalidCursorException("Invalid cursor: " + cursor);
+    }
+}
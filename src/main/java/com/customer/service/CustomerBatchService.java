@@ -0,0 +1,128 @@
+package com.customer.service;
+
+import com.customer.cache.CustomerCache;
+import com.customer.config.CustomerBatchProperties;
+import com.customer.dto.CustomerBatchResponse;
+import com.customer.dto.CustomerBatchResponse.ItemResult;
+import com.customer.dto.CustomerBatchResponse.Status;
+import com.customer.dto.CustomerRequest;
+import com.customer.dto.ErrorResponse;
+import com.customer.exception.BatchTooLargeException;
+import com.customer.exception.InvalidBatchRequestException;
+import com.customer.model.Customer;
+import com.customer.repository.CustomerBatchRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bulk import behind {@code POST /api/customers/batch}. Every item is
+ * validated on its own; the valid ones are written in JDBC batches within a
+ * single transaction and each item gets its own result.
+ */
+@Service
+public class CustomerBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerBatchService.class);
+
+    private final CustomerBatchRepository batchRepository;
+    private final CustomerBatchProperties properties;
+    private final Validator validator;
+    private final CustomerCache customerCache;
+
+    public CustomerBatchService(CustomerBatchRepository batchRepository, CustomerBatchProperties properties,
+                                Validator validator, CustomerCache customerCache) {
+        this.batchRepository = batchRepository;
+        this.properties = properties;
+        this.validator = validator;
+        this.customerCache = customerCache;
+    }
+
+    public int maxItems() {
+        return properties.maxItems();
+    }
+
+    /**
+     * @param overwrite {@code true} to overwrite customers whose ID already exists,
+     *                  {@code false} to report them as {@link Status#DUPLICATE}
+     */
+    @Transactional
+    public CustomerBatchResponse createCustomers(List<CustomerRequest> requests, boolean overwrite) {
+        if (requests.isEmpty()) {
+            throw new InvalidBatchRequestException("Batch must contain at least one customer");
+        }
+        if (requests.size() > properties.maxItems()) {
+            throw new BatchTooLargeException("Batch of " + requests.size()
+                    + " customers exceeds the limit of " + properties.maxItems());
+        }
+        long start = System.nanoTime();
+
+        ItemResult[] results = new ItemResult[requests.size()];
+        List<Customer> customers = new ArrayList<>(requests.size());
+        List<Integer> positions = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            CustomerRequest request = requests.get(i);
+            List<ErrorResponse.ValidationError> errors = validate(request);
+            if (errors.isEmpty()) {
+                customers.add(CustomerService.toEntity(request));
+                positions.add(i);
+            } else {
+                results[i] = new ItemResult(i, request != null ? request.customerId() : null, Status.INVALID, errors);
+            }
+        }
+
+        int[] counts = customers.isEmpty()
+                ? new int[0]
+                : batchRepository.insert(customers, overwrite, properties.jdbcBatchSize());
+
+        List<String> written = new ArrayList<>(customers.size());
+        for (int j = 0; j < counts.length; j++) {
+            int index = positions.get(j);
+            String customerId = customers.get(j).getCustomerId();
+            Status status;
+            if (counts[j] == 0) {
+                status = Status.DUPLICATE;
+            } else {
+                status = overwrite ? Status.UPSERTED : Status.CREATED;
+                written.add(customerId);
+            }
+            results[index] = new ItemResult(index, customerId, status, null);
+        }
+
+        if (overwrite) {
+            // Overwritten customers may be cached; other instances hear of them from the table's trigger
+            customerCache.evictAfterCommit(written);
+        }
+
+        long durationMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long rowsPerSecond = written.size() * 1000L / durationMillis;
+        logger.info("Batch import wrote {} of {} customers in {} ms ({} rows/s)",
+                written.size(), requests.size(), durationMillis, rowsPerSecond);
+        return new CustomerBatchResponse(requests.size(), written.size(), requests.size() - written.size(),
+                durationMillis, rowsPerSecond, Arrays.asList(results));
+    }
+
+    private List<ErrorResponse.ValidationError> validate(CustomerRequest request) {
+        if (request == null) {
+            return List.of(new ErrorResponse.ValidationError(null, "null", "Customer must not be null"));
+        }
+        Set<ConstraintViolation<CustomerRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return List.of();
+        }
+        return violations.stream()
+                .map(v -> new ErrorResponse.ValidationError(
+                        v.getPropertyPath().toString(),
+                        v.getInvalidValue() != null ? v.getInvalidValue().toString() : "null",
+                        v.getMessage()))
+                .toList();
+    }
+}
@@ -0,0 +1,101 @@
+package com.customer.service;
+
+import com.customer.config.CustomerChangesProperties;
+import com.customer.datasource.ReadWriteRoutingDataSource;
+import com.customer.dto.CustomerChange;
+import com.customer.dto.CustomerChanges;
+import com.customer.dto.CustomerResponse;
+import com.customer.model.CustomerTombstone;
+import com.customer.repository.CustomerRepository;
+import com.customer.repository.CustomerSpecifications;
+import com.customer.repository.CustomerTombstoneRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves the change feed: customers written and deleted since a cursor,
+ * merged from the customer table (by {@code updated_at}) and the tombstone
+ * table (by {@code deleted_at}) into one stream ordered by time, then customer
+ * ID.
+ */
+@Service
+public class CustomerChangesService {
+
+    private final CustomerRepository customerRepository;
+    private final CustomerTombstoneRepository tombstoneRepository;
+    private final CustomerChangesProperties properties;
+
+    public CustomerChangesService(CustomerRepository customerRepository,
+                                  CustomerTombstoneRepository tombstoneRepository,
+                                  CustomerChangesProperties properties) {
+        this.customerRepository = customerRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Returns up to {@code limit} changes after {@code since}, oldest first.
+     * Changes younger than the settle time are held back until a later call.
+     * Each half is read with one keyset query of at most {@code limit + 1}
+     * rows, so a page costs the same however far back the cursor is.
+     */
+    @Transactional(readOnly = true)
+    public CustomerChanges changesSince(String since, Integer limit) {
+        ChangeCursor after = ChangeCursor.decode(since);
+        int pageSize = resolveLimit(limit);
+        LocalDateTime before = LocalDateTime.now().minus(properties.settleTime());
+
+        // A lagging replica could be missing changes older than the settle time, and the
+        // cursor would then move past them for good
+        return ReadWriteRoutingDataSource.readFromPrimary(() -> {
+            List<CustomerResponse> upserts = customerRepository.findResponses(
+                    CustomerSpecifications.changedBetween(after.changedAt(), after.customerId(), before),
+                    pageSize + 1);
+            List<CustomerTombstone> deletes = tombstoneRepository.findDeletedBetween(
+                    after.changedAt(), after.customerId(), before, Limit.of(pageSize + 1));
+
+            List<CustomerChange> changes = new ArrayList<>(Math.min(upserts.size() + deletes.size(), pageSize + 1));
+            int u = 0;
+            int d = 0;
+            while (changes.size() <= pageSize && (u < upserts.size() || d < deletes.size())) {
+                if (d == deletes.size() || (u < upserts.size() && upsertFirst(upserts.get(u), deletes.get(d)))) {
+                    CustomerResponse customer = upserts.get(u++);
+                    changes.add(new CustomerChange(CustomerChange.Type.UPSERT, customer.customerId(),
+                            customer.updatedAt(), customer));
+                } else {
+                    CustomerTombstone tombstone = deletes.get(d++);
+                    changes.add(new CustomerChange(CustomerChange.Type.DELETE, tombstone.getCustomerId(),
+                            tombstone.getDeletedAt(), null));
+                }
+            }
+
+            boolean hasMore = changes.size() > pageSize;
+            if (hasMore) {
+                changes = changes.subList(0, pageSize);
+            }
+            String cursor = after == ChangeCursor.START ? null : since;
+            if (!changes.isEmpty()) {
+                CustomerChange last = changes.get(changes.size() - 1);
+                cursor = new ChangeCursor(last.changedAt(), last.customerId()).encode();
+            }
+            return new CustomerChanges(changes, cursor, hasMore);
+        });
+    }
+
+    private static boolean upsertFirst(CustomerResponse upsert, CustomerTombstone delete) {
+        int byTime = upsert.updatedAt().compareTo(delete.getDeletedAt());
+        return byTime < 0 || (byTime == 0 && upsert.customerId().compareTo(delete.getCustomerId()) <= 0);
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return properties.defaultLimit();
+        }
+        return Math.max(1, Math.min(limit, properties.maxLimit()));
+    }
+}
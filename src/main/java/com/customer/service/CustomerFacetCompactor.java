@@ -0,0 +1,69 @@
+package com.customer.service;
+
+import com.customer.config.CustomerFacetProperties;
+import com.customer.repository.CustomerFacetRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Folds the location count deltas written by every customer write into the
+ * location counts every {@code compactionInterval}, so facet reads only add
+ * up the few deltas written since. With several instances only one compacts
+ * at a time; the others skip that round.
+ */
+@Component
+public class CustomerFacetCompactor implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerFacetCompactor.class);
+
+    private final CustomerFacetRepository facetRepository;
+    private final CustomerFacetProperties properties;
+    private final TransactionTemplate transaction;
+
+    private volatile ScheduledExecutorService executor;
+
+    public CustomerFacetCompactor(CustomerFacetRepository facetRepository, CustomerFacetProperties properties,
+                                  PlatformTransactionManager transactionManager) {
+        this.facetRepository = facetRepository;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    private void compact() {
+        try {
+            transaction.execute(status -> facetRepository.compact());
+        } catch (RuntimeException e) {
+            // Uncompacted deltas are still counted by reads; try again next round
+            logger.warn("Compacting customer location counts failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("customer-facet-compaction").daemon().factory());
+        long interval = properties.compactionInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::compact, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+}
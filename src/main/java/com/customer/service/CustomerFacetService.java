@@ -0,0 +1,40 @@
+package com.customer.service;
+
+import com.customer.config.CustomerFacetProperties;
+import com.customer.dto.CustomerFacets;
+import com.customer.repository.CustomerFacetRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Serves the location facets from the counts the database keeps up to date on
+ * every write, so a request reads one row per location instead of grouping
+ * the customer table.
+ */
+@Service
+public class CustomerFacetService {
+
+    private final CustomerFacetRepository facetRepository;
+    private final CustomerFacetProperties properties;
+
+    public CustomerFacetService(CustomerFacetRepository facetRepository, CustomerFacetProperties properties) {
+        this.facetRepository = facetRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Counts customers per country, region and city. Each filter that is given
+     * must match exactly; up to {@code limit} values are returned per facet.
+     */
+    @Transactional(readOnly = true)
+    public CustomerFacets getFacets(String country, String region, String city, Integer limit) {
+        return facetRepository.countByLocation(country, region, city, resolveLimit(limit));
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return properties.defaultLimit();
+        }
+        return Math.max(1, Math.min(limit, properties.maxLimit()));
+    }
+}
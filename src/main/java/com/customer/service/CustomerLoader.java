@@ -0,0 +1,253 @@
+package com.customer.service;
+
+import com.customer.cache.CustomerCache;
+import com.customer.config.CustomerLoaderProperties;
+import com.customer.datasource.ReadWriteRoutingDataSource;
+import com.customer.dto.CustomerResponse;
+import com.customer.metrics.StatementCounter;
+import com.customer.repository.CustomerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads single customers on behalf of concurrent callers with as few queries
+ * as possible. A lookup of an ID that is already being loaded waits for that
+ * load instead of running its own. Distinct IDs requested within
+ * {@code window} of the first one, up to {@code maxBatchSize}, are loaded
+ * together with one {@code customer_id = ANY(?)} query on a virtual thread,
+ * so several batches can be in flight at once.
+ *
+ * <p>Published as {@code customer.loader.requests} (lookups),
+ * {@code customer.loader.coalesced} (lookups that joined an in-flight load),
+ * {@code customer.loader.batch.size} (IDs per query; its count is the number
+ * of queries) and {@code customer.loader.collapse.ratio} (lookups per query
+ * since startup).
+ *
+ * <p>The query a batch runs is added to the {@link StatementCounter} count of
+ * every lookup that waited for it, so a request's statement count includes the
+ * load it depended on even though it ran on another thread.
+ *
+ * <p>Loaded customers are offered to the {@link CustomerCache} with tickets
+ * taken before the query, so a row read just before a change is not cached.
+ */
+@Component
+public class CustomerLoader implements SmartLifecycle {
+
+    private final CustomerRepository customerRepository;
+    private final CustomerLoaderProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final StatementCounter statementCounter;
+    private final CustomerCache customerCache;
+    private final Map<String, CompletableFuture<Loaded>> inFlight = new ConcurrentHashMap<>();
+    private final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+    private final Counter requests;
+    private final Counter coalesced;
+    private final DistributionSummary batchSize;
+
+    private volatile Thread dispatcher;
+    private volatile ExecutorService batchExecutor;
+
+    public CustomerLoader(CustomerRepository customerRepository, CustomerLoaderProperties properties,
+                          PlatformTransactionManager transactionManager, StatementCounter statementCounter,
+                          CustomerCache customerCache, MeterRegistry meterRegistry) {
+        this.customerRepository = customerRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.statementCounter = statementCounter;
+        this.customerCache = customerCache;
+        this.requests = Counter.builder("customer.loader.requests")
+                .description("Single-customer loads requested")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("customer.loader.coalesced")
+                .description("Loads answered by a load of the same ID already in flight")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("customer.loader.batch.size")
+                .description("Customer IDs loaded per query")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("customer.loader.collapse.ratio", this,
+                        loader -> loader.requests.count() / Math.max(1, loader.batchSize.count()))
+                .description("Single-customer loads requested per query run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads one customer, sharing the query with concurrent callers, and
+     * caches it. Blocks until the batch it joined has been read.
+     *
+     * @return the customer, or empty if no customer has that ID
+     */
+    public Optional<CustomerResponse> load(String customerId) {
+        requests.increment();
+        if (!properties.enabled() || dispatcher == null) {
+            batchSize.record(1);
+            return loadAll(List.of(customerId)).stream().findFirst();
+        }
+
+        CompletableFuture<Loaded> created = new CompletableFuture<>();
+        CompletableFuture<Loaded> existing = inFlight.putIfAbsent(customerId, created);
+        if (existing != null) {
+            coalesced.increment();
+        } else {
+            queue.add(customerId);
+            if (dispatcher == null) {
+                // Stopped since the check above, possibly after the dispatcher's last drain: load it here
+                loadQueued();
+            }
+        }
+        Loaded loaded = await(existing != null ? existing : created);
+        statementCounter.add(loaded.statements());
+        return loaded.customer();
+    }
+
+    /**
+     * Collects IDs into batches: the first ID opens a batch, which is handed
+     * off when the window has passed or it is full.
+     */
+    private void dispatch() {
+        List<String> batch = new ArrayList<>();
+        long windowNanos = properties.window().toNanos();
+        try {
+            while (true) {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < properties.maxBatchSize()) {
+                    String next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                List<String> ids = List.copyOf(batch);
+                batch.clear();
+                batchExecutor.execute(() -> loadBatch(ids));
+            }
+        } catch (InterruptedException e) {
+            // Stopping: load what is still queued so no caller is left waiting
+            if (!batch.isEmpty()) {
+                loadBatch(List.copyOf(batch));
+            }
+            loadQueued();
+        }
+    }
+
+    private void loadQueued() {
+        List<String> ids = new ArrayList<>();
+        queue.drainTo(ids);
+        if (!ids.isEmpty()) {
+            loadBatch(ids);
+        }
+    }
+
+    private void loadBatch(List<String> ids) {
+        batchSize.record(ids.size());
+        Map<String, CustomerResponse> found = new HashMap<>();
+        int statements;
+        try {
+            statements = statementCounter.countWhile(() -> {
+                for (CustomerResponse customer : loadAll(ids)) {
+                    found.put(customer.customerId(), customer);
+                }
+            });
+        } catch (Throwable e) {
+            // Whatever went wrong, the callers must not be left waiting on futures nobody completes
+            for (String customerId : ids) {
+                inFlight.remove(customerId).completeExceptionally(e);
+            }
+            return;
+        }
+        // Removed before completing, so a lookup arriving from now on starts a fresh load
+        for (String customerId : ids) {
+            inFlight.remove(customerId).complete(new Loaded(Optional.ofNullable(found.get(customerId)), statements));
+        }
+    }
+
+    private List<CustomerResponse> loadAll(List<String> ids) {
+        Map<String, Long> tickets = new HashMap<>();
+        for (String customerId : ids) {
+            tickets.put(customerId, customerCache.ticket(customerId));
+        }
+        // Results are cached, so read them from the primary rather than a possibly lagging replica
+        List<CustomerResponse> loaded = ReadWriteRoutingDataSource.readFromPrimary(() ->
+                readOnlyTransaction.execute(status ->
+                        customerRepository.findAllByIdArray(ids.toArray(String[]::new)).stream()
+                                .map(CustomerService::toResponse)
+                                .toList()));
+        for (CustomerResponse customer : loaded) {
+            customerCache.fill(customer.customerId(), customer, tickets.get(customer.customerId()));
+        }
+        return loaded;
+    }
+
+    private static Loaded await(CompletableFuture<Loaded> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void start() {
+        batchExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("customer-loader-", 0).factory());
+        dispatcher = Thread.ofPlatform().name("customer-loader").daemon().start(this::dispatch);
+    }
+
+    @Override
+    public void stop() {
+        Thread thread = dispatcher;
+        if (thread != null) {
+            dispatcher = null;
+            thread.interrupt();
+            try {
+                // Lets it hand off its last batch and load what is queued before the executor closes
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batchExecutor.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return dispatcher != null;
+    }
+
+    /** A lookup's result and the statements the batch that answered it ran. */
+    private record Loaded(Optional<CustomerResponse> customer, int statements) {
+    }
+
+    /** Started before and stopped after the web server, so no request finds it stopped. */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}
@@ -1,89 +1,441 @@
 package com.customer.service;
 
+import com.customer.cache.CustomerCache;
+import com.customer.config.CacheConfig;
+import com.customer.config.CustomerLookupProperties;
+import com.customer.config.CustomerSearchProperties;
+import com.customer.datasource.ReadWriteRoutingDataSource;
+import com.customer.dto.CustomerFieldsPage;
+import com.customer.dto.CustomerLookupResponse;
+import com.customer.dto.CustomerPage;
+import com.customer.dto.CustomerPatch;
 import com.customer.dto.CustomerRequest;
 import com.customer.dto.CustomerResponse;
+import com.customer.dto.CustomerSearchCriteria;
+import com.customer.dto.CustomerSearchHit;
 import com.customer.dto.CustomerUpdateRequest;
+import com.customer.dto.CustomerVersion;
+import com.customer.exception.BatchTooLargeException;
 import com.customer.exception.CustomerNotFoundException;
 import com.customer.exception.DuplicateCustomerIdException;
+import com.customer.exception.InvalidSearchRequestException;
+import com.customer.exception.PreconditionFailedException;
 import com.customer.model.Customer;
+import com.customer.repository.CustomerQueryOperations;
 import com.customer.repository.CustomerRepository;
+import com.customer.repository.CustomerSearchBackend;
+import com.customer.repository.CustomerSpecifications;
+import com.customer.search.SearchCursor;
+import com.customer.search.SearchSort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class CustomerService {
 
     private final CustomerRepository customerRepository;
+    private final CustomerLoader customerLoader;
+    private final CustomerSearchProperties searchProperties;
+    private final CustomerLookupProperties lookupProperties;
+    private final CustomerSearchBackend searchBackend;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final CustomerCache customerCache;
+    private final DistributionSummary searchResultSize;
+    private final DistributionSummary rankedSearchResultSize;
 
-    public CustomerService(CustomerRepository customerRepository) {
+    public CustomerService(CustomerRepository customerRepository, CustomerLoader customerLoader,
+                           CustomerSearchProperties searchProperties, CustomerLookupProperties lookupProperties,
+                           CustomerSearchBackend searchBackend, EntityManager entityManager,
+                           TransactionTemplate transactionTemplate, Validator validator,
+                           CustomerCache customerCache, MeterRegistry meterRegistry) {
         this.customerRepository = customerRepository;
+        this.customerLoader = customerLoader;
+        this.searchProperties = searchProperties;
+        this.lookupProperties = lookupProperties;
+        this.searchBackend = searchBackend;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.customerCache = customerCache;
+        this.searchResultSize = searchResultSize(meterRegistry, "search");
+        this.rankedSearchResultSize = searchResultSize(meterRegistry, "ranked");
     }
 
-    public CustomerResponse createCustomer(CustomerRequest request) {
-        // Check for duplicate customer ID
-        if (customerRepository.existsById(request.customerId())) {
-            throw new DuplicateCustomerIdException("Customer with ID " + request.customerId() + " already exists");
-        }
+    private static DistributionSummary searchResultSize(MeterRegistry meterRegistry, String type) {
+        return DistributionSummary.builder("customer.search.results")
+                .description("Customers returned per search request")
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
-        Customer customer = new Customer();
-        customer.setCustomerId(request.customerId());
-        customer.setCompanyName(request.companyName());
-        customer.setContactName(request.contactName());
-        customer.setContactTitle(request.contactTitle());
-        customer.setAddress(request.address());
-        customer.setCity(request.city());
-        customer.setRegion(request.region());
-        customer.setPostalCode(request.postalCode());
-        customer.setCountry(request.country());
-        customer.setPhone(request.phone());
-        customer.setFax(request.fax());
-        customer.setContactEmail(request.contactEmail());
+    @CachePut(cacheNames = CacheConfig.CUSTOMERS, key = "#result.customerId")
+    public CustomerResponse createCustomer(CustomerRequest request) {
+        Customer customer = toEntity(request);
 
+        // A single INSERT; the primary key rejects duplicate IDs, so no existence check is needed
         try {
-            Customer savedCustomer = customerRepository.save(customer);
-            return toResponse(savedCustomer);
+            customerRepository.insert(customer);
         } catch (DataIntegrityViolationException e) {
             throw new DuplicateCustomerIdException("Customer with ID " + request.customerId() + " already exists");
         }
+        return toResponse(customer);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Cache misses go through {@link CustomerLoader}, which shares the query
+     * with concurrent misses and caches what it read unless the customer
+     * changed meanwhile. No transaction is started here, so a caller waiting
+     * for its batch does not hold a connection.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public CustomerResponse getCustomerById(String customerId) {
-        Customer customer = customerRepository.findById(customerId)
+        CustomerResponse cached = customerCache.get(customerId);
+        if (cached != null) {
+            return cached;
+        }
+        return customerLoader.load(customerId)
                 .orElseThrow(() -> new CustomerNotFoundException("Customer with ID " + customerId + " not found"));
-        return toResponse(customer);
     }
 
+    /**
+     * Returns the customer's current version, which is all a conditional GET
+     * needs. Answered from the cache when the customer is cached, otherwise by
+     * reading the version columns alone from the primary, since a lagging
+     * replica would confirm a client's outdated copy; no transaction is started.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CustomerVersion getCustomerVersion(String customerId) {
+        CustomerResponse cached = customerCache.get(customerId);
+        if (cached != null) {
+            return CustomerVersion.of(cached);
+        }
+        return ReadWriteRoutingDataSource.readFromPrimary(() -> customerRepository.findVersionById(customerId))
+                .orElseThrow(() -> new CustomerNotFoundException("Customer with ID " + customerId + " not found"));
+    }
+
+    /**
+     * Resolves many customers at once. IDs found in the cache are answered
+     * from it; the rest are loaded with a single query and cached. Duplicate
+     * IDs are looked up once. When every ID is cached no transaction is
+     * started.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CustomerLookupResponse lookupCustomers(List<String> customerIds) {
+        Set<String> ids = new LinkedHashSet<>(customerIds);
+        if (ids.size() > lookupProperties.maxIds()) {
+            throw new BatchTooLargeException("Lookup of " + ids.size()
+                    + " customer IDs exceeds the limit of " + lookupProperties.maxIds());
+        }
+
+        Map<String, CustomerResponse> found = new HashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String customerId : ids) {
+            CustomerResponse cached = customerCache.get(customerId);
+            if (cached != null) {
+                found.put(customerId, cached);
+            } else {
+                uncached.add(customerId);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            Map<String, Long> tickets = new HashMap<>();
+            for (String customerId : uncached) {
+                tickets.put(customerId, customerCache.ticket(customerId));
+            }
+            List<Customer> loaded = ReadWriteRoutingDataSource.readFromPrimary(
+                    () -> customerRepository.findAllByIdArray(uncached.toArray(String[]::new)));
+            for (Customer customer : loaded) {
+                CustomerResponse response = toResponse(customer);
+                customerCache.fill(customer.getCustomerId(), response, tickets.get(customer.getCustomerId()));
+                found.put(customer.getCustomerId(), response);
+            }
+        }
+
+        List<CustomerResponse> customers = new ArrayList<>(found.size());
+        List<String> missingIds = new ArrayList<>();
+        for (String customerId : ids) {
+            CustomerResponse customer = found.get(customerId);
+            if (customer != null) {
+                customers.add(customer);
+            } else {
+                missingIds.add(customerId);
+            }
+        }
+        return new CustomerLookupResponse(customers, missingIds);
+    }
+
+    /**
+     * Runs one query that applies every criterion, the requested sort and the
+     * keyset seek, and returns at most one page of results. Rows are selected
+     * straight into {@link CustomerResponse}s; no entities are loaded.
+     */
     @Transactional(readOnly = true)
-    public List<CustomerResponse> searchCustomers(String companyName, String contactName, String contactEmail, String phone) {
-        List<Customer> customers = new ArrayList<>();
-
-        if (companyName != null && !companyName.isBlank()) {
-            customers.addAll(customerRepository.findByCompanyNameContainingIgnoreCase(companyName));
-        } else if (contactName != null && !contactName.isBlank()) {
-            customers.addAll(customerRepository.findByContactNameContainingIgnoreCase(contactName));
-        } else if (contactEmail != null && !contactEmail.isBlank()) {
-            customers.addAll(customerRepository.findByContactEmailContainingIgnoreCase(contactEmail));
-        } else if (phone != null && !phone.isBlank()) {
-            customers.addAll(customerRepository.findByPhoneContaining(phone));
-        } else {
-            customers.addAll(customerRepository.findAll());
-        }
-
-        return customers.stream()
-                .map(this::toResponse)
+    public CustomerPage searchCustomers(CustomerSearchCriteria criteria, String sort, Integer size, String cursor) {
+        SearchSort searchSort = SearchSort.parse(sort);
+        int pageSize = resolvePageSize(size);
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<CustomerResponse> customers = customerRepository.findResponses(
+                searchSpec(criteria, searchSort, cursor), pageSize + 1);
+
+        String nextCursor = null;
+        if (customers.size() > pageSize) {
+            customers = customers.subList(0, pageSize);
+            CustomerResponse last = customers.get(pageSize - 1);
+            nextCursor = new SearchCursor(searchSort.toString(), searchSort.keyOf(last), last.customerId()).encode();
+        }
+
+        searchResultSize.record(customers.size());
+        return new CustomerPage(customers, nextCursor);
+    }
+
+    /**
+     * Same search as {@link #searchCustomers}, but only the columns named in
+     * {@code fields} (comma-separated {@link CustomerResponse} field names) are
+     * selected and returned, plus {@code customerId} and {@code version}.
+     */
+    @Transactional(readOnly = true)
+    public CustomerFieldsPage searchCustomerFields(CustomerSearchCriteria criteria, String sort, Integer size,
+                                                   String cursor, String fields) {
+        SearchSort searchSort = SearchSort.parse(sort);
+        int pageSize = resolvePageSize(size);
+
+        Set<String> returned = new LinkedHashSet<>();
+        returned.add("customerId");
+        returned.addAll(parseFields(fields));
+        returned.add("version");
+        Set<String> selected = new LinkedHashSet<>(returned);
+        selected.add(searchSort.attribute());
+
+        List<Tuple> rows = customerRepository.findAttributes(
+                searchSpec(criteria, searchSort, cursor), selected, pageSize + 1);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            Tuple last = rows.get(pageSize - 1);
+            nextCursor = new SearchCursor(searchSort.toString(),
+                    SearchSort.key(last.get(searchSort.attribute(), String.class)),
+                    last.get("customerId", String.class)).encode();
+        }
+
+        List<Map<String, Object>> customers = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Map<String, Object> customer = new LinkedHashMap<>();
+            for (String field : returned) {
+                customer.put(field, row.get(field));
+            }
+            customers.add(customer);
+        }
+        searchResultSize.record(customers.size());
+        return new CustomerFieldsPage(customers, nextCursor);
+    }
+
+    private static Specification<Customer> searchSpec(CustomerSearchCriteria criteria, SearchSort searchSort,
+                                                      String cursor) {
+        SearchCursor after = SearchCursor.decode(cursor, searchSort.toString());
+        return CustomerSpecifications.matching(criteria)
+                .and(CustomerSpecifications.keyset(searchSort.attribute(), searchSort.descending(),
+                        after != null ? after.value() : null,
+                        after != null ? after.customerId() : null));
+    }
+
+    private static List<String> parseFields(String fields) {
+        List<String> parsed = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!CustomerQueryOperations.RESPONSE_ATTRIBUTES.contains(name)) {
+                throw new InvalidSearchRequestException("Invalid field '" + name + "' in fields; available fields are "
+                        + CustomerQueryOperations.RESPONSE_ATTRIBUTES);
+            }
+            parsed.add(name);
+        }
+        return parsed;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CustomerSearchHit> rankedSearch(String term, Integer limit) {
+        if (term == null || term.isBlank()) {
+            throw new InvalidSearchRequestException("Search term 'q' is required");
+        }
+        List<CustomerSearchHit> hits = searchBackend.search(term.trim(), resolvePageSize(limit)).stream()
+                .map(hit -> new CustomerSearchHit(hit.score(), toResponse(hit.customer())))
                 .toList();
+        rankedSearchResultSize.record(hits.size());
+        return hits;
+    }
+
+    /**
+     * Hands every customer, in customer ID order, to {@code sink} while the
+     * rows are still being read from the database cursor. Each entity is
+     * detached once mapped so the persistence context stays empty and memory
+     * use does not grow with the table size.
+     *
+     * @return the number of customers exported
+     */
+    @Transactional(readOnly = true)
+    public long exportCustomers(Consumer<CustomerResponse> sink) {
+        long count = 0;
+        try (Stream<Customer> customers = customerRepository.streamAll()) {
+            for (Customer customer : (Iterable<Customer>) customers::iterator) {
+                sink.accept(toResponse(customer));
+                entityManager.detach(customer);
+                count++;
+            }
+        }
+        return count;
     }
 
-    public CustomerResponse updateCustomer(String customerId, CustomerUpdateRequest request) {
-        Customer customer = customerRepository.findById(customerId)
+    /**
+     * Overwrites the customer. When {@code expected} is given the update
+     * only applies if the stored version still matches, otherwise
+     * {@link PreconditionFailedException} is thrown.
+     */
+    @CachePut(cacheNames = CacheConfig.CUSTOMERS, key = "#customerId")
+    public CustomerResponse updateCustomer(String customerId, CustomerUpdateRequest request, CustomerVersion expected) {
+        Customer values = new Customer(customerId, request.companyName());
+        values.setContactName(request.contactName());
+        values.setContactTitle(request.contactTitle());
+        values.setAddress(request.address());
+        values.setCity(request.city());
+        values.setRegion(request.region());
+        values.setPostalCode(request.postalCode());
+        values.setCountry(request.country());
+        values.setPhone(request.phone());
+        values.setFax(request.fax());
+        values.setContactEmail(request.contactEmail());
+
+        Customer updatedCustomer = customerRepository.updateReturning(values, expected)
+                .orElseThrow(() -> writeRejected(customerId, expected));
+        return toResponse(updatedCustomer);
+    }
+
+    /**
+     * Applies a JSON Merge Patch. When the current state is known, only fields
+     * whose value actually changes are written, in a single UPDATE of just
+     * those columns, and a patch that changes nothing returns that state
+     * without a write. A cached copy counts as known only when
+     * {@code expected} names its version; otherwise it may be stale, so
+     * every field in the patch goes into an UPDATE that only matches a row
+     * differing in at least one of them. A patch that turns out to change
+     * nothing never writes. A non-null {@code expected} must match the
+     * stored version.
+     */
+    @CachePut(cacheNames = CacheConfig.CUSTOMERS, key = "#customerId")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CustomerResponse patchCustomer(String customerId, CustomerPatch patch, CustomerVersion expected) {
+        CustomerResponse current = customerCache.get(customerId);
+        boolean currentIsStored = current != null && expected != null && expected.equals(CustomerVersion.of(current));
+        // Without a cached copy, or with one that disagrees with the client's version, read the row; an empty
+        // patch reads it too unless the client's version is cached, so the response is not a stale copy
+        if (current == null || (expected != null && !currentIsStored)
+                || (patch.changes().isEmpty() && !currentIsStored)) {
+            // The patch is diffed against this state, so it must be the primary's
+            current = ReadWriteRoutingDataSource.readFromPrimary(() -> customerRepository.findById(customerId))
+                    .map(CustomerService::toResponse)
+                    .orElseThrow(() -> new CustomerNotFoundException("Customer with ID " + customerId + " not found"));
+            currentIsStored = true;
+        }
+        if (expected != null && !expected.equals(CustomerVersion.of(current))) {
+            throw versionMismatch(customerId, expected);
+        }
+
+        Set<ConstraintViolation<CustomerUpdateRequest>> violations = validator.validate(patch.applyTo(current));
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        Map<String, String> changes = currentIsStored ? patch.changesFrom(current) : patch.changes();
+        if (changes.isEmpty()) {
+            return current;
+        }
+
+        return transactionTemplate.execute(status -> customerRepository
+                .updateColumnsReturning(customerId, changes, expected)
+                .map(CustomerService::toResponse)
+                .orElseGet(() -> unchanged(customerId, expected)));
+    }
+
+    /**
+     * Explains why a patch's UPDATE matched no row: the customer is missing,
+     * its version is not {@code expected}, or it already held every patched
+     * value, in which case it is returned as stored.
+     */
+    private CustomerResponse unchanged(String customerId, CustomerVersion expected) {
+        Customer stored = customerRepository.findById(customerId)
                 .orElseThrow(() -> new CustomerNotFoundException("Customer with ID " + customerId + " not found"));
+        CustomerResponse response = toResponse(stored);
+        if (expected != null && !expected.equals(CustomerVersion.of(response))) {
+            throw versionMismatch(customerId, expected);
+        }
+        return response;
+    }
 
+    /**
+     * Deletes the customer; with a non-null {@code expected} only while
+     * the stored version still matches. The same statement writes a tombstone
+     * so the change feed can report the delete. The customer is evicted once
+     * the delete has committed, so a concurrent miss cannot cache it again.
+     */
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMER_JSON, key = "#customerId")
+    public void deleteCustomer(String customerId, CustomerVersion expected) {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = expected == null
+                ? customerRepository.deleteWithTombstone(customerId, now)
+                : customerRepository.deleteWithTombstone(customerId, expected.version(), expected.createdAt(), now);
+        if (deleted == 0) {
+            throw writeRejected(customerId, expected);
+        }
+        customerCache.evictAfterCommit(List.of(customerId));
+    }
+
+    /**
+     * Explains why a conditional write matched no row. Only then is it worth a
+     * second query to tell a missing customer from a stale version.
+     */
+    private RuntimeException writeRejected(String customerId, CustomerVersion expected) {
+        if (expected != null && customerRepository.existsById(customerId)) {
+            return versionMismatch(customerId, expected);
+        }
+        return new CustomerNotFoundException("Customer with ID " + customerId + " not found");
+    }
+
+    private static PreconditionFailedException versionMismatch(String customerId, CustomerVersion expected) {
+        return new PreconditionFailedException("Customer with ID " + customerId
+                + " has been modified since version " + expected.etag());
+    }
+
+    static Customer toEntity(CustomerRequest request) {
+        Customer customer = new Customer();
+        customer.setCustomerId(request.customerId());
         customer.setCompanyName(request.companyName());
         customer.setContactName(request.contactName());
         customer.setContactTitle(request.contactTitle());
@@ -95,19 +447,17 @@ public class CustomerService {
         customer.setPhone(request.phone());
         customer.setFax(request.fax());
         customer.setContactEmail(request.contactEmail());
-
-        Customer updatedCustomer = customerRepository.save(customer);
-        return toResponse(updatedCustomer);
+        return customer;
     }
 
-    public void deleteCustomer(String customerId) {
-        if (!customerRepository.existsById(customerId)) {
-            throw new CustomerNotFoundException("Customer with ID " + customerId + " not found");
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return searchProperties.defaultPageSize();
         }
-        customerRepository.deleteById(customerId);
+        return Math.max(1, Math.min(size, searchProperties.maxPageSize()));
     }
 
-    private CustomerResponse toResponse(Customer customer) {
+    static CustomerResponse toResponse(Customer customer) {
         return new CustomerResponse(
                 customer.getCustomerId(),
                 customer.getCompanyName(),
@@ -122,7 +472,8 @@ public class CustomerService {
                 customer.getFax(),
                 customer.getContactEmail(),
                 customer.getCreatedAt(),
-                customer.getUpdatedAt()
+                customer.getUpdatedAt(),
+                customer.getVersion()
         );
     }
 }
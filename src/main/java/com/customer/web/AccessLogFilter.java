@@ -0,0 +1,165 @@
+package com.customer.web;
+
+import com.customer.config.AccessLogProperties;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes one compact line per API request to {@code com.customer.access}:
+ * request ID, method, path, status and duration. The request ID is taken
+ * from {@code X-Request-Id} or generated, echoed in the response and put in
+ * the MDC as {@code requestId} so other log lines can be correlated.
+ * <p>
+ * Bodies are only captured and logged, to {@code com.customer.access.payload},
+ * when that logger is at DEBUG or the request falls into the configured
+ * sample; otherwise no body is buffered and no DTO is ever turned into a
+ * string. The streaming export is never captured.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    static final String REQUEST_ID_HEADER = "X-Request-Id";
+    static final String REQUEST_ID_MDC_KEY = "requestId";
+
+    private static final Logger accessLog = LoggerFactory.getLogger("com.customer.access");
+    private static final Logger payloadLog = LoggerFactory.getLogger("com.customer.access.payload");
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+    // Streamed straight to the client; buffering it for payload logging would hold the whole export in memory
+    private static final String STREAMING_PATH_SUFFIX = "/export";
+
+    private final AccessLogProperties properties;
+
+    public AccessLogFilter(AccessLogProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        String requestId = requestId(request);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+
+        boolean capturePayload = !request.getRequestURI().endsWith(STREAMING_PATH_SUFFIX)
+                && (payloadLog.isDebugEnabled()
+                    || (properties.payloadSampleRate() > 0
+                        && ThreadLocalRandom.current().nextDouble() < properties.payloadSampleRate()));
+        ContentCachingRequestWrapper cachingRequest = null;
+        ContentCachingResponseWrapper cachingResponse = null;
+        if (capturePayload) {
+            cachingRequest = new ContentCachingRequestWrapper(request, properties.maxPayloadLength());
+            cachingResponse = new ContentCachingResponseWrapper(response);
+        }
+
+        boolean logOnCompletion = false;
+        try {
+            chain.doFilter(cachingRequest != null ? cachingRequest : request,
+                    cachingResponse != null ? cachingResponse : response);
+            if (request.isAsyncStarted()) {
+                // Streaming responses finish on another thread; log when they complete
+                request.getAsyncContext().addListener(
+                        new LogOnCompletion(requestId, request.getMethod(), request.getRequestURI(), started));
+                logOnCompletion = true;
+            }
+        } finally {
+            if (cachingResponse != null) {
+                logPayload(requestId, cachingRequest, cachingResponse);
+                cachingResponse.copyBodyToResponse();
+            }
+            if (!logOnCompletion) {
+                logAccess(requestId, request.getMethod(), request.getRequestURI(), response.getStatus(), started);
+            }
+            MDC.remove(REQUEST_ID_MDC_KEY);
+        }
+    }
+
+    /**
+     * Writes the access line. Level-guarded so nothing is formatted when the
+     * access logger is off.
+     */
+    static void logAccess(String requestId, String method, String path, int status, long startedNanos) {
+        if (accessLog.isInfoEnabled()) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedNanos);
+            accessLog.info("{} {} {} {} {}us", requestId, method, path, status, micros);
+        }
+    }
+
+    private void logPayload(String requestId, ContentCachingRequestWrapper request,
+                            ContentCachingResponseWrapper response) {
+        payloadLog.info("{} request: {} response: {}", requestId, truncate(request.getContentAsByteArray()),
+                truncate(response.getContentAsByteArray()));
+    }
+
+    private String truncate(byte[] body) {
+        int length = Math.min(body.length, properties.maxPayloadLength());
+        String text = new String(body, 0, length, StandardCharsets.UTF_8);
+        return body.length > length ? text + "..." : text;
+    }
+
+    private static String requestId(HttpServletRequest request) {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId != null && !requestId.isBlank() && requestId.length() <= MAX_REQUEST_ID_LENGTH) {
+            return requestId;
+        }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    /** Logs an async request once its response is complete. */
+    private static class LogOnCompletion implements AsyncListener {
+
+        private final String requestId;
+        private final String method;
+        private final String path;
+        private final long startedNanos;
+
+        LogOnCompletion(String requestId, String method, String path, long startedNanos) {
+            this.requestId = requestId;
+            this.method = method;
+            this.path = path;
+            this.startedNanos = startedNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            int status = ((HttpServletResponse) event.getSuppliedResponse()).getStatus();
+            logAccess(requestId, method, path, status, startedNanos);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
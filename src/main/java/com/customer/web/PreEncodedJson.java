@@ -0,0 +1,62 @@
+package com.customer.web;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * A response body whose JSON has already been encoded: a single document, or
+ * a JSON array assembled from pre-encoded elements. For {@code application/json}
+ * {@link PreEncodedJsonHttpMessageConverter} copies the bytes to the response
+ * as they are; any other message converter serializes {@link #value()}.
+ */
+public final class PreEncodedJson {
+
+    private final Object value;
+    private final List<byte[]> elements;
+    private final boolean array;
+
+    private PreEncodedJson(Object value, List<byte[]> elements, boolean array) {
+        this.value = value;
+        this.elements = elements;
+        this.array = array;
+    }
+
+    public static PreEncodedJson of(Object value, byte[] json) {
+        return new PreEncodedJson(value, List.of(json), false);
+    }
+
+    public static PreEncodedJson array(List<?> values, List<byte[]> elements) {
+        return new PreEncodedJson(values, elements, true);
+    }
+
+    @JsonValue
+    public Object value() {
+        return value;
+    }
+
+    long contentLength() {
+        long length = array ? 2 + Math.max(0, elements.size() - 1) : 0;
+        for (byte[] element : elements) {
+            length += element.length;
+        }
+        return length;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        if (array) {
+            out.write('[');
+        }
+        for (int i = 0; i < elements.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(elements.get(i));
+        }
+        if (array) {
+            out.write(']');
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.customer.web;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link PreEncodedJson} bodies by copying their bytes straight to the
+ * response. Registered as a bean, so Spring Boot places it ahead of the
+ * Jackson converter.
+ */
+@Component
+public class PreEncodedJsonHttpMessageConverter extends AbstractHttpMessageConverter<PreEncodedJson> {
+
+    public PreEncodedJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PreEncodedJson.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PreEncodedJson readInternal(Class<? extends PreEncodedJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Pre-encoded JSON is write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(PreEncodedJson json, MediaType contentType) {
+        return json.contentLength();
+    }
+
+    @Override
+    protected void writeInternal(PreEncodedJson json, HttpOutputMessage outputMessage) throws IOException {
+        json.writeTo(outputMessage.getBody());
+    }
+}
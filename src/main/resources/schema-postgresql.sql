@@ -0,0 +1,114 @@
+-- PostgreSQL-specific objects for the customer table: search indexes, change notifications and location counts
+-- Runs after Hibernate has created the table (spring.jpa.defer-datasource-initialization=true)
+
+-- Trigram GIN indexes serve the case-insensitive substring searches (upper(col) LIKE '%term%')
+-- and the similarity ranking used by GET /api/customers/search
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_customer_company_name_trgm ON customer USING gin (upper(company_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customer_contact_name_trgm ON customer USING gin (upper(contact_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customer_contact_email_trgm ON customer USING gin (upper(contact_email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customer_phone_digits_trgm ON customer USING gin (phone_digits gin_trgm_ops);
+-- The remaining columns GET /api/customers filters on, so no filter falls back to a sequential scan
+CREATE INDEX IF NOT EXISTS idx_customer_contact_title_trgm ON customer USING gin (upper(contact_title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customer_address_trgm ON customer USING gin (upper(address) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customer_city_trgm ON customer USING gin (upper(city) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customer_region_trgm ON customer USING gin (upper(region) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customer_postal_code_trgm ON customer USING gin (upper(postal_code) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customer_country_trgm ON customer USING gin (upper(country) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customer_fax_trgm ON customer USING gin (upper(fax) gin_trgm_ops);
+
+-- Change notifications for the other instances' caches (CustomerChangeListener). Sent by the write statement
+-- itself, so a write stays one round trip, and delivered only on commit. The payload is the writing connection's
+-- application_name, which each instance sets to its own ID, followed by one changed customer ID per line; IDs are
+-- sent in chunks of 1000 to stay under the 8000-byte NOTIFY payload limit.
+CREATE OR REPLACE FUNCTION notify_customer_changes() RETURNS trigger LANGUAGE plpgsql AS '
+DECLARE
+    payload text;
+BEGIN
+    FOR payload IN
+        SELECT current_setting(''application_name'') || string_agg(chr(10) || customer_id, '''')
+        FROM (SELECT customer_id, (row_number() OVER ()) / 1000 AS chunk FROM changed_customers) ids
+        GROUP BY chunk
+    LOOP
+        PERFORM pg_notify(''customer_changes'', payload);
+    END LOOP;
+    RETURN NULL;
+END';
+
+CREATE OR REPLACE TRIGGER customer_changes_insert
+    AFTER INSERT ON customer REFERENCING NEW TABLE AS changed_customers
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_customer_changes();
+
+CREATE OR REPLACE TRIGGER customer_changes_update
+    AFTER UPDATE ON customer REFERENCING NEW TABLE AS changed_customers
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_customer_changes();
+
+CREATE OR REPLACE TRIGGER customer_changes_delete
+    AFTER DELETE ON customer REFERENCING OLD TABLE AS changed_customers
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_customer_changes();
+
+-- Customer counts per location for GET /api/customers/facets. Every insert, delete and location change of a
+-- customer appends -1/+1 rows to customer_location_delta within the writing transaction, and
+-- CustomerFacetCompactor folds them into customer_location_count; reads add up both. Appending rather than
+-- incrementing the count row keeps concurrent writes for the same location from queueing on that row.
+CREATE TABLE IF NOT EXISTS customer_location_count (
+    country        varchar(15),
+    region         varchar(15),
+    city           varchar(15),
+    customer_count bigint NOT NULL,
+    CONSTRAINT uk_customer_location_count UNIQUE NULLS NOT DISTINCT (country, region, city)
+);
+
+CREATE TABLE IF NOT EXISTS customer_location_delta (
+    country varchar(15),
+    region  varchar(15),
+    city    varchar(15),
+    delta   integer NOT NULL
+);
+
+-- The body is single-quoted because the init script splitter does not understand $$ quoting
+CREATE OR REPLACE FUNCTION record_customer_location_delta() RETURNS trigger LANGUAGE plpgsql AS '
+BEGIN
+    IF TG_OP <> ''INSERT'' THEN
+        INSERT INTO customer_location_delta VALUES (OLD.country, OLD.region, OLD.city, -1);
+    END IF;
+    IF TG_OP <> ''DELETE'' THEN
+        INSERT INTO customer_location_delta VALUES (NEW.country, NEW.region, NEW.city, 1);
+    END IF;
+    RETURN NULL;
+END';
+
+-- Installs the triggers above, counting the customers already stored without them. Runs only when the triggers are
+-- missing, which is when the counts cannot be trusted: on first start, or after the customer table was recreated
+-- (ddl-auto) or had them dropped. A normal start does not touch the customer table or the counts at all. The lock
+-- holds off writers, and other instances starting up, so no change is counted twice or missed; to recount, drop
+-- customer_location_insert_delete and restart.
+CREATE OR REPLACE FUNCTION install_customer_location_counts() RETURNS void LANGUAGE plpgsql AS '
+BEGIN
+    LOCK TABLE customer IN SHARE ROW EXCLUSIVE MODE;
+    -- Checked again under the lock, in case another instance got here first
+    IF EXISTS (SELECT 1 FROM pg_trigger WHERE tgrelid = ''customer''::regclass
+                                          AND tgname = ''customer_location_insert_delete'') THEN
+        RETURN;
+    END IF;
+
+    TRUNCATE customer_location_delta, customer_location_count;
+    INSERT INTO customer_location_count (country, region, city, customer_count)
+        SELECT country, region, city, count(*) FROM customer GROUP BY country, region, city;
+
+    DROP TRIGGER IF EXISTS customer_location_update ON customer;
+    CREATE TRIGGER customer_location_insert_delete
+        AFTER INSERT OR DELETE ON customer
+        FOR EACH ROW EXECUTE FUNCTION record_customer_location_delta();
+    CREATE TRIGGER customer_location_update
+        AFTER UPDATE OF country, region, city ON customer
+        FOR EACH ROW
+        WHEN (OLD.country IS DISTINCT FROM NEW.country OR OLD.region IS DISTINCT FROM NEW.region
+              OR OLD.city IS DISTINCT FROM NEW.city)
+        EXECUTE FUNCTION record_customer_location_delta();
+END';
+
+SELECT install_customer_location_counts()
+ WHERE NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgrelid = 'customer'::regclass
+                                              AND tgname = 'customer_location_insert_delete');
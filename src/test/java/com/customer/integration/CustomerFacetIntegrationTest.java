@@ -0,0 +1,127 @@
+package com.customer.integration;
+
+import com.customer.dto.CustomerFacets;
+import com.customer.dto.CustomerFacets.FacetCount;
+import com.customer.dto.CustomerRequest;
+import com.customer.dto.CustomerUpdateRequest;
+import com.customer.repository.CustomerFacetRepository;
+import com.customer.service.CustomerFacetService;
+import com.customer.service.CustomerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The location counts follow every write, and re-running
+ * {@code schema-postgresql.sql}, as every instance does on startup, only
+ * recounts when the counting triggers are missing. Compaction is left to the
+ * tests so the delta table only changes when they write.
+ */
+@SpringBootTest(properties = "customer.facets.compaction-interval=1h")
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class CustomerFacetIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerFacetService facetService;
+
+    @Autowired
+    private CustomerFacetRepository facetRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void countsFollowWrites() {
+        customerService.createCustomer(request("FCT01", "Facetland", "Alpha"));
+        customerService.createCustomer(request("FCT02", "Facetland", "Beta"));
+        assertEquals(2, facetService.getFacets("Facetland", null, null, null).total());
+
+        customerService.updateCustomer("FCT02", update("Facetland", "Alpha"), null);
+        assertEquals(List.of(new FacetCount("Alpha", 2)), facetService.getFacets("Facetland", null, null, null).city());
+
+        customerService.deleteCustomer("FCT01", null);
+        transactionTemplate.execute(status -> facetRepository.compact());
+        CustomerFacets facets = facetService.getFacets("Facetland", null, null, null);
+        assertEquals(1, facets.total());
+        assertEquals(List.of(new FacetCount("Alpha", 1)), facets.city());
+    }
+
+    @Test
+    void startupLeavesCountsAloneWhileTriggersExist() {
+        customerService.createCustomer(request("FCT11", "Restartland", "Gamma"));
+        long deltas = deltaRows();
+
+        runSchemaScript();
+
+        // A recount would have folded the pending delta into the counts
+        assertEquals(deltas, deltaRows());
+        assertEquals(1, facetService.getFacets("Restartland", null, null, null).total());
+    }
+
+    @Test
+    void startupCountsCustomersStoredWithoutTriggers() {
+        jdbcTemplate.execute("DROP TRIGGER customer_location_insert_delete ON customer");
+        customerService.createCustomer(request("FCT21", "Legacyland", "Delta"));
+        assertEquals(0, facetService.getFacets("Legacyland", null, null, null).total());
+
+        runSchemaScript();
+        assertEquals(1, facetService.getFacets("Legacyland", null, null, null).total());
+
+        // Counted from now on again
+        customerService.createCustomer(request("FCT22", "Legacyland", "Delta"));
+        assertEquals(2, facetService.getFacets("Legacyland", null, null, null).total());
+    }
+
+    private void runSchemaScript() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema-postgresql.sql")).execute(dataSource);
+    }
+
+    private long deltaRows() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM customer_location_delta", Long.class);
+    }
+
+    private static CustomerRequest request(String customerId, String country, String city) {
+        return new CustomerRequest(customerId, "Facet Co", "Ann Example", "Owner", "1 Main St",
+                city, null, "10115", country, "030-1234567", null, "ann@example.com");
+    }
+
+    private static CustomerUpdateRequest update(String country, String city) {
+        return new CustomerUpdateRequest("Facet Co", "Ann Example", "Owner", "1 Main St", city, null,
+                "10115", country, "030-1234567", null, "ann@example.com");
+    }
+}
@@ -0,0 +1,181 @@
+package com.customer.integration;
+
+import com.customer.datasource.ReadWriteRoutingDataSource;
+import com.customer.dto.CustomerRequest;
+import com.customer.service.CustomerService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Routes against two separate databases standing in for a primary and its
+ * replica, told apart by {@code current_database()}. The replica's lag is
+ * read from a table the test controls, so a lagging replica can be simulated
+ * without real replication; the last test stops the replica altogether.
+ */
+@SpringBootTest(properties = {
+    "customer.read-replicas.enabled=true",
+    "customer.read-replicas.check-interval=200ms",
+    "customer.read-replicas.max-lag=5s",
+    "customer.read-replicas.lag-query=SELECT seconds FROM replica_lag"
+})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String PRIMARY = "customer_primary";
+    private static final String REPLICA = "customer_replica";
+
+    @Container
+    static final PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:15").withDatabaseName(PRIMARY);
+
+    @Container
+    static final PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:15").withDatabaseName(REPLICA);
+
+    @DynamicPropertySource
+    static void datasources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("customer.read-replicas.urls", replica::getJdbcUrl);
+        registry.add("customer.read-replicas.username", replica::getUsername);
+        registry.add("customer.read-replicas.password", replica::getPassword);
+    }
+
+    @BeforeAll
+    static void createLagTable() throws SQLException {
+        executeOnReplica("CREATE TABLE replica_lag (seconds float8 NOT NULL)");
+        executeOnReplica("INSERT INTO replica_lag VALUES (0)");
+    }
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Test
+    @Order(1)
+    void readOnlyTransactionUsesReplica() {
+        awaitDatabase(REPLICA);
+        assertEquals(REPLICA, currentDatabase(true));
+    }
+
+    @Test
+    @Order(1)
+    void readWriteTransactionUsesPrimary() {
+        assertEquals(PRIMARY, currentDatabase(false));
+    }
+
+    @Test
+    @Order(1)
+    void readFromPrimaryUsesPrimaryForReadOnlyTransaction() {
+        awaitDatabase(REPLICA);
+        assertEquals(PRIMARY, ReadWriteRoutingDataSource.readFromPrimary(() -> currentDatabase(true)));
+    }
+
+    @Test
+    @Order(1)
+    void writeGoesToPrimary() throws SQLException {
+        customerService.createCustomer(new CustomerRequest("RRT01", "Routing Co", null, null, null, null, null,
+                null, null, null, null, "routing@example.com"));
+
+        // The replica has no customer table at all, so the insert can only have succeeded on the primary
+        try (Connection connection = DriverManager.getConnection(primary.getJdbcUrl(), primary.getUsername(),
+                primary.getPassword());
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT count(*) FROM customer WHERE customer_id = 'RRT01'")) {
+            rs.next();
+            assertEquals(1, rs.getInt(1));
+        }
+    }
+
+    @Test
+    @Order(2)
+    void laggingReplicaFallsBackToPrimary() throws SQLException {
+        awaitDatabase(REPLICA);
+
+        executeOnReplica("UPDATE replica_lag SET seconds = 60");
+        awaitDatabase(PRIMARY);
+
+        executeOnReplica("UPDATE replica_lag SET seconds = 0");
+        awaitDatabase(REPLICA);
+    }
+
+    @Test
+    @Order(3)
+    void stoppedReplicaFallsBackToPrimary() {
+        awaitDatabase(REPLICA);
+
+        replica.stop();
+        awaitDatabase(PRIMARY);
+        assertEquals(PRIMARY, currentDatabase(true));
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+    }
+
+    /**
+     * Waits for the replica's health check to catch up. A read that picked
+     * the replica just as it went away may fail; the next one must not.
+     */
+    private void awaitDatabase(String expected) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        String actual = null;
+        while (System.nanoTime() < deadline) {
+            try {
+                actual = currentDatabase(true);
+                if (expected.equals(actual)) {
+                    return;
+                }
+            } catch (DataAccessException e) {
+                actual = e.getMessage();
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted");
+            }
+        }
+        fail("Read-only transactions still use " + actual + " instead of " + expected);
+    }
+
+    private static void executeOnReplica(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(replica.getJdbcUrl(), replica.getUsername(),
+                replica.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.customer.integration;
+
+import com.customer.dto.CustomerRequest;
+import com.customer.dto.CustomerUpdateRequest;
+import com.customer.exception.CustomerNotFoundException;
+import com.customer.exception.DuplicateCustomerIdException;
+import com.customer.service.CustomerService;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Each write in {@link CustomerService} costs exactly one SQL statement,
+ * including the ones that fail: a duplicate ID is rejected by the primary key
+ * and a missing customer shows up as zero affected rows. Statements are
+ * counted at the JDBC level, so SQL sent outside Hibernate counts too; the
+ * cache change notification is sent by the write statement's trigger.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class WriteStatementCountIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private JdbcStatementCounter statementCounter;
+
+    @Test
+    void createIsOneStatement() {
+        statementCounter.start();
+        customerService.createCustomer(request("WSC01"));
+        assertEquals(1, statementCounter.stop());
+    }
+
+    @Test
+    void duplicateCreateIsOneStatement() {
+        customerService.createCustomer(request("WSC02"));
+
+        statementCounter.start();
+        assertThrows(DuplicateCustomerIdException.class, () -> customerService.createCustomer(request("WSC02")));
+        assertEquals(1, statementCounter.stop());
+    }
+
+    @Test
+    void updateIsOneStatement() {
+        customerService.createCustomer(request("WSC03"));
+
+        statementCounter.start();
+        customerService.updateCustomer("WSC03", update("Updated Company"), null);
+        assertEquals(1, statementCounter.stop());
+    }
+
+    @Test
+    void updateOfMissingCustomerIsOneStatement() {
+        statementCounter.start();
+        assertThrows(CustomerNotFoundException.class,
+                () -> customerService.updateCustomer("WSC04", update("Updated Company"), null));
+        assertEquals(1, statementCounter.stop());
+    }
+
+    @Test
+    void deleteIsOneStatement() {
+        customerService.createCustomer(request("WSC05"));
+
+        statementCounter.start();
+        customerService.deleteCustomer("WSC05", null);
+        assertEquals(1, statementCounter.stop());
+    }
+
+    @Test
+    void deleteOfMissingCustomerIsOneStatement() {
+        statementCounter.start();
+        assertThrows(CustomerNotFoundException.class, () -> customerService.deleteCustomer("WSC06", null));
+        assertEquals(1, statementCounter.stop());
+    }
+
+    @Test
+    void writeIsAnnouncedByItsOwnStatement() throws SQLException {
+        try (Connection listener = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(),
+                postgres.getPassword())) {
+            try (Statement statement = listener.createStatement()) {
+                statement.execute("LISTEN customer_changes");
+            }
+
+            statementCounter.start();
+            customerService.createCustomer(request("WSC07"));
+            assertEquals(1, statementCounter.stop());
+
+            PGNotification[] notifications = listener.unwrap(PGConnection.class).getNotifications(5000);
+            assertNotNull(notifications);
+            assertEquals("WSC07", notifications[0].getParameter().split("\n")[1]);
+        }
+    }
+
+    private static CustomerRequest request(String customerId) {
+        return new CustomerRequest(customerId, "Statement Count Co", "Ann Example", "Owner", "1 Main St",
+                "Berlin", null, "10115", "Germany", "030-1234567", null, "ann@example.com");
+    }
+
+    private static CustomerUpdateRequest update(String companyName) {
+        return new CustomerUpdateRequest(companyName, "Ann Example", "Owner", "1 Main St", "Berlin", null,
+                "10115", "Germany", "030-1234567", null, "ann@example.com");
+    }
+
+    @TestConfiguration
+    static class CountingDataSource {
+
+        @Bean
+        JdbcStatementCounter jdbcStatementCounter() {
+            return new JdbcStatementCounter();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor(ObjectProvider<JdbcStatementCounter> counter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource
+                            ? counter.getObject().wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Counts the statements executed on the thread that called
+     * {@link #start()}, whoever sends them: every {@code execute*} call on a
+     * statement from the wrapped DataSource is one round trip.
+     */
+    static class JdbcStatementCounter {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile Thread counting;
+
+        void start() {
+            count.set(0);
+            counting = Thread.currentThread();
+        }
+
+        int stop() {
+            counting = null;
+            return count.get();
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource);
+        }
+
+        private <T> T proxy(Class<T> type, T target) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                if (method.getName().startsWith("execute") && Thread.currentThread() == counting) {
+                    count.incrementAndGet();
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                return switch (result) {
+                    case Connection connection when method.getName().equals("getConnection") ->
+                            proxy(Connection.class, connection);
+                    case CallableStatement statement -> proxy(CallableStatement.class, statement);
+                    case PreparedStatement statement -> proxy(PreparedStatement.class, statement);
+                    case Statement statement when method.getReturnType() == Statement.class ->
+                            proxy(Statement.class, statement);
+                    case null, default -> result;
+                };
+            };
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+        }
+    }
+}